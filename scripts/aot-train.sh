@@ -0,0 +1,91 @@
+#!/bin/sh
+# Training run for the JDK AOT cache (JDK 25+, JEP 483/514). Starts the packaged application with
+# -XX:AOTCacheOutput, waits until the startup sync is done (readiness UP), exercises the main pages
+# and stops it; the JVM writes the cache when it exits.
+#
+# Usage: scripts/aot-train.sh <app jar> <cache file> [rounds]
+#
+# Run the application later with the same JDK, the same jar path and -XX:AOTCache=<cache file>.
+# Environment: JAVA (default java), AOT_HTTP_PORT (default 18080), AOT_MANAGEMENT_PORT (default 19000).
+# Used by the aot-cache Maven profile and the aot target of the Dockerfile; needs curl or (busybox) wget.
+set -eu
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 <app jar> <cache file> [rounds]" >&2
+    exit 2
+fi
+
+JAR=$1
+CACHE=$2
+ROUNDS=${3:-20}
+JAVA=${JAVA:-java}
+BASE=http://localhost:${AOT_HTTP_PORT:-18080}
+READY=http://localhost:${AOT_MANAGEMENT_PORT:-19000}/q/health/ready
+LEVELS="BASIS REDELIJK GOED UITSTEKEND"
+
+# fetch <url> [htmx]: prints the body, fails on HTTP errors
+fetch() {
+    if command -v curl >/dev/null 2>&1; then
+        curl -fsS -H "HX-Request: ${2:-false}" "$1"
+    else
+        wget -q -O - --header "HX-Request: ${2:-false}" "$1"
+    fi
+}
+
+rm -f "$CACHE"
+"$JAVA" -XX:AOTCacheOutput="$CACHE" \
+    -Dquarkus.http.port="${AOT_HTTP_PORT:-18080}" \
+    -Dquarkus.management.port="${AOT_MANAGEMENT_PORT:-19000}" \
+    -jar "$JAR" > "$CACHE.log" 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+
+waited=0
+until fetch "$READY" > /dev/null 2>&1; do
+    if ! kill -0 $PID 2>/dev/null; then
+        echo "Application exited during the training run; see $CACHE.log" >&2
+        exit 1
+    fi
+    waited=$((waited + 1))
+    if [ $waited -gt 120 ]; then
+        echo "Application not ready after 120 s; see $CACHE.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+ROLES=$(fetch "$BASE/" | grep -o '/roles/[0-9]*' | cut -d/ -f3 | sort -un)
+SKILLS=$(fetch "$BASE/matrix" | grep -o '/matrix/tooltips/skill/[0-9]*' | cut -d/ -f5 | sort -un | head -n 50)
+echo "Training: $ROUNDS rounds over $(echo $ROLES | wc -w) roles and $(echo $SKILLS | wc -w) skills"
+
+round=0
+while [ $round -lt "$ROUNDS" ]; do
+    fetch "$BASE/" > /dev/null
+    fetch "$BASE/matrix" > /dev/null
+    previous=
+    for role in $ROLES; do
+        fetch "$BASE/roles/$role" > /dev/null
+        fetch "$BASE/roles/$role/categories" true > /dev/null
+        if [ -n "$previous" ]; then
+            fetch "$BASE/compare/skills?from=$previous&to=$role" true > /dev/null
+        fi
+        previous=$role
+    done
+    for skill in $SKILLS; do
+        for level in $LEVELS; do
+            fetch "$BASE/matrix/tooltips/skill/$skill?level=$level" true > /dev/null
+        done
+    done
+    round=$((round + 1))
+done
+
+# A graceful shutdown lets the JVM assemble the cache on exit
+kill -TERM $PID
+wait $PID || true
+trap - EXIT
+
+if [ ! -s "$CACHE" ]; then
+    echo "No AOT cache written to $CACHE; see $CACHE.log" >&2
+    exit 1
+fi
+echo "AOT cache written to $CACHE ($(wc -c < "$CACHE") bytes)"
@@ -0,0 +1,351 @@
+package nl.leonw.competencymatrix.build;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import nl.leonw.competencymatrix.resource.StaticAssets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Build-time processor for the stylesheets and scripts in META-INF/resources. Each file is minified,
+ * written to {@link StaticAssets#DIRECTORY} under a name with a hash of its content (css/theme.css
+ * becomes css/theme.&lt;hash&gt;.css) and precompressed next to it as .gz and .br.
+ * {@link StaticAssets#MANIFEST} maps the original paths to the hashed ones. Runs in the process-classes
+ * phase from src/build/java (see pom.xml), so it is not part of the application.
+ *
+ * <p>The originals stay in META-INF/resources under their fixed names.</p>
+ *
+ * <p>Usage: {@code AssetCompiler <classes-directory>}</p>
+ */
+public final class AssetCompiler {
+
+    private static final String SOURCES = "META-INF/resources";
+    private static final int HASH_LENGTH = 10;
+
+    private AssetCompiler() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: AssetCompiler <classes-directory>");
+        }
+        Path classesDir = Path.of(args[0]);
+        Path sources = classesDir.resolve(SOURCES);
+        Path target = classesDir.resolve(StaticAssets.DIRECTORY);
+        deleteRecursively(target);
+
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(sources)) {
+            assets = files.filter(Files::isRegularFile)
+                    .filter(file -> file.toString().endsWith(".css") || file.toString().endsWith(".js"))
+                    .sorted()
+                    .toList();
+        }
+
+        // brotli4j ships glibc binaries only; elsewhere (e.g. on musl) assets are precompressed with gzip only
+        boolean brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            System.out.println("Brotli not available on this platform, writing gzip variants only: "
+                    + Brotli4jLoader.getUnavailabilityCause());
+        }
+        Map<String, String> manifest = new TreeMap<>();
+        long originalBytes = 0;
+        long compressedBytes = 0;
+        for (Path asset : assets) {
+            String path = sources.relativize(asset).toString().replace('\\', '/');
+            String source = Files.readString(asset);
+            byte[] minified = (path.endsWith(".css") ? minifyCss(source) : minifyJs(source)).getBytes(UTF_8);
+            String hashed = hashedPath(path, minified);
+
+            Path output = target.resolve(hashed);
+            Files.createDirectories(output.getParent());
+            Files.write(output, minified);
+            byte[] compressed = gzip(minified);
+            writeIfSmaller(output.resolveSibling(output.getFileName() + ".gz"), compressed, minified.length);
+            if (brotliAvailable) {
+                compressed = brotli(minified);
+                writeIfSmaller(output.resolveSibling(output.getFileName() + ".br"), compressed, minified.length);
+            }
+            manifest.put(path, hashed);
+
+            originalBytes += Files.size(asset);
+            compressedBytes += Math.min(compressed.length, minified.length);
+        }
+
+        // Written by hand rather than with Properties.store, which adds a timestamp and breaks reproducible builds
+        StringBuilder lines = new StringBuilder("# Generated by AssetCompiler\n");
+        manifest.forEach((path, hashed) -> lines.append(path).append('=').append(hashed).append('\n'));
+        Files.writeString(classesDir.resolve(StaticAssets.MANIFEST), lines, UTF_8);
+        System.out.printf("Compiled assets: %d files, %d bytes -> %d bytes %s -> %s%n",
+                assets.size(), originalBytes, compressedBytes, brotliAvailable ? "brotli" : "gzip", target);
+    }
+
+    /**
+     * Inserts a hash of the content before the extension: css/theme.css becomes css/theme.&lt;hash&gt;.css.
+     */
+    static String hashedPath(String path, byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            String hash = HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+            int dot = path.lastIndexOf('.');
+            return path.substring(0, dot) + "." + hash + path.substring(dot);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Removes comments and collapses whitespace, dropping it around braces, semicolons, commas and
+     * child combinators and after colons, and drops the last semicolon of a block. Strings are copied
+     * unchanged. Whitespace before a colon is kept, since it is significant in selectors ("a :hover").
+     */
+    static String minifyCss(String css) {
+        StringBuilder out = new StringBuilder(css.length());
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (c == '/' && i + 1 < css.length() && css.charAt(i + 1) == '*') {
+                int end = css.indexOf("*/", i + 2);
+                i = end < 0 ? css.length() : end + 2;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (c == '}' && !out.isEmpty() && out.charAt(out.length() - 1) == ';') {
+                out.setLength(out.length() - 1);
+            }
+            if (pendingSpace && !out.isEmpty() && "{};,>".indexOf(c) < 0
+                    && "{};,>:".indexOf(out.charAt(out.length() - 1)) < 0) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            if (c == '"' || c == '\'') {
+                i = copyString(css, i, out);
+                continue;
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Removes comments and indentation. Strings, template literals and regular expression literals are copied
+     * unchanged. Line breaks are kept where automatic semicolon insertion could depend on them, so the result
+     * behaves like the source; no identifiers are renamed.
+     */
+    static String minifyJs(String js) {
+        StringBuilder out = new StringBuilder(js.length());
+        int i = 0;
+        boolean pendingSpace = false;
+        boolean pendingNewline = false;
+        while (i < js.length()) {
+            char c = js.charAt(i);
+            char next = i + 1 < js.length() ? js.charAt(i + 1) : 0;
+            if (c == '/' && next == '*') {
+                int end = js.indexOf("*/", i + 2);
+                int after = end < 0 ? js.length() : end + 2;
+                pendingSpace = true;
+                pendingNewline |= js.substring(i, after).indexOf('\n') >= 0;
+                i = after;
+                continue;
+            }
+            if (c == '/' && next == '/') {
+                int end = js.indexOf('\n', i);
+                i = end < 0 ? js.length() : end;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                pendingNewline |= c == '\n';
+                i++;
+                continue;
+            }
+            if (!out.isEmpty() && (pendingSpace || pendingNewline)) {
+                char previous = out.charAt(out.length() - 1);
+                if (pendingNewline && "{;,(".indexOf(previous) < 0 && "})].,;".indexOf(c) < 0) {
+                    out.append('\n');
+                } else if (needsSpace(previous, c)) {
+                    out.append(' ');
+                }
+            }
+            pendingSpace = false;
+            pendingNewline = false;
+            if (c == '"' || c == '\'' || c == '`') {
+                i = copyString(js, i, out);
+                continue;
+            }
+            if (c == '/' && startsRegex(out)) {
+                i = copyRegex(js, i, out);
+                continue;
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    private static boolean needsSpace(char previous, char c) {
+        return (isIdentifierPart(previous) && isIdentifierPart(c))
+                || (previous == '+' && c == '+') || (previous == '-' && c == '-');
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c > 127;
+    }
+
+    /**
+     * A slash starts a regular expression literal where an operand is expected, i.e. not after an
+     * identifier, number or closing bracket.
+     */
+    private static boolean startsRegex(StringBuilder out) {
+        int last = out.length() - 1;
+        while (last >= 0 && out.charAt(last) == '\n') {
+            last--;
+        }
+        if (last < 0) {
+            return true;
+        }
+        char previous = out.charAt(last);
+        if (previous == ')' || previous == ']' || previous == '}' || isIdentifierPart(previous)) {
+            int start = last;
+            while (start > 0 && isIdentifierPart(out.charAt(start - 1))) {
+                start--;
+            }
+            String word = out.substring(start, last + 1);
+            return word.equals("return") || word.equals("typeof") || word.equals("case");
+        }
+        return true;
+    }
+
+    /**
+     * Copies the quoted string or template literal starting at {@code start}, escapes included. Substitutions
+     * ({@code ${...}}) in a template literal are copied unchanged too, nested template literals included.
+     *
+     * @return the index after the closing quote
+     */
+    private static int copyString(String source, int start, StringBuilder out) {
+        int end = skipString(source, start);
+        out.append(source, start, end);
+        return end;
+    }
+
+    private static int skipString(String source, int start) {
+        char quote = source.charAt(start);
+        int i = start + 1;
+        while (i < source.length() && source.charAt(i) != quote) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (quote == '`' && source.startsWith("${", i)) {
+                i = skipSubstitution(source, i + 2);
+            } else {
+                i++;
+            }
+        }
+        return Math.min(i + 1, source.length());
+    }
+
+    /**
+     * @return the index after the brace that closes the substitution whose expression starts at {@code start}
+     */
+    private static int skipSubstitution(String source, int start) {
+        int depth = 1;
+        int i = start;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'' || c == '`') {
+                i = skipString(source, i);
+                continue;
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int copyRegex(String source, int start, StringBuilder out) {
+        int i = start + 1;
+        boolean inClass = false;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                break;
+            }
+            i++;
+        }
+        int end = Math.min(i + 1, source.length());
+        out.append(source, start, end);
+        return end;
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] brotli(byte[] content) throws IOException {
+        return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+    }
+
+    /**
+     * Compressed variants that do not save anything are not written, so they are never served.
+     */
+    private static void writeIfSmaller(Path file, byte[] compressed, int originalLength) throws IOException {
+        if (compressed.length < originalLength) {
+            Files.write(file, compressed);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
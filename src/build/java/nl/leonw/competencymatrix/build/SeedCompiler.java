@@ -0,0 +1,52 @@
+package nl.leonw.competencymatrix.build;
+
+import nl.leonw.competencymatrix.config.CompiledSeed;
+import nl.leonw.competencymatrix.config.SeedLoader;
+import nl.leonw.competencymatrix.config.SeedValidator;
+import nl.leonw.competencymatrix.config.YamlCompetencyData;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time processor that parses and validates the bundled seed and writes {@link CompiledSeed#RESOURCE}.
+ * Runs in the process-classes phase (see pom.xml), so invalid seed data, including an invalid
+ * progressions.yaml, fails the build instead of the deployment. Lives in src/build/java, which is compiled to
+ * its own directory and run from there, so it is not part of the application.
+ *
+ * <p>Usage: {@code SeedCompiler <classes-directory>}</p>
+ */
+public final class SeedCompiler {
+
+    private SeedCompiler() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SeedCompiler <classes-directory>");
+        }
+        Path classesDir = Path.of(args[0]);
+
+        // Isolated class loader: only the seed files of this build are visible
+        YamlCompetencyData data;
+        try (URLClassLoader seedClassLoader = new URLClassLoader(
+                new URL[]{classesDir.toUri().toURL()}, null)) {
+            data = new SeedLoader(seedClassLoader, "seed").strict().load();
+        }
+
+        SeedValidator.validateStructure(data);
+        SeedValidator.validateReferences(data);
+
+        Path target = classesDir.resolve(CompiledSeed.RESOURCE);
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            CompiledSeed.write(data, out);
+        }
+
+        System.out.printf("Compiled seed: %d categories, %d roles, %d progressions -> %s%n",
+                data.categories().size(), data.roles().size(), data.progressions().size(), target);
+    }
+}
@@ -0,0 +1,168 @@
+package nl.leonw.competencymatrix.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.leonw.competencymatrix.config.SeedLoader;
+import nl.leonw.competencymatrix.config.YamlCompetencyData;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import nl.leonw.competencymatrix.service.CompetencyService;
+import nl.leonw.competencymatrix.service.SkillDescriptionStore;
+import nl.leonw.competencymatrix.tools.SyntheticSeedGenerator;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcConnectionPool;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Database for the benchmarks: an in-memory H2 database migrated with the application's Flyway
+ * scripts and filled through the real repositories from a {@link SyntheticSeedGenerator} data set
+ * or a seed directory, plus a {@link CompetencyService} wired
+ * to it without starting Quarkus.
+ */
+final class BenchmarkDataset implements AutoCloseable {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    /**
+     * Dataset sizes selectable with the {@code dataset} benchmark parameter, as
+     * {@link SyntheticSeedGenerator} settings.
+     *
+     * @param scale generator scale (100 skills and about half a role family per step)
+     * @param fillRatio fraction of all skills each role requires
+     */
+    enum Size {
+        SMALL(1, 0.3),
+        MEDIUM(10, 0.2),
+        LARGE(50, 0.1);
+
+        final int scale;
+        final double fillRatio;
+
+        Size(int scale, double fillRatio) {
+            this.scale = scale;
+            this.fillRatio = fillRatio;
+        }
+    }
+
+    final JdbcConnectionPool dataSource;
+    final CompetencyService competencyService;
+    final List<Role> roles = new ArrayList<>();
+    final List<Skill> skills = new ArrayList<>();
+    final List<RoleProgression> progressions = new ArrayList<>();
+
+    private final CategoryRepository categoryRepository = new CategoryRepository();
+    private final SkillRepository skillRepository = new SkillRepository();
+    private final RoleRepository roleRepository = new RoleRepository();
+    private final RoleSkillRequirementRepository requirementRepository = new RoleSkillRequirementRepository();
+    private final RoleProgressionRepository progressionRepository = new RoleProgressionRepository();
+
+    BenchmarkDataset(Size size, long randomSeed) {
+        this(new SyntheticSeedGenerator(size.scale, size.fillRatio, randomSeed).generate());
+    }
+
+    /**
+     * Loads a seed directory, e.g. one written by {@link SyntheticSeedGenerator}.
+     */
+    BenchmarkDataset(Path seedDirectory) {
+        this(new SeedLoader(seedDirectory).load());
+    }
+
+    private BenchmarkDataset(YamlCompetencyData seed) {
+        String url = "jdbc:h2:mem:benchmark" + DATABASES.incrementAndGet()
+                + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=FALSE";
+        dataSource = JdbcConnectionPool.create(url, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        for (Object repository : List.of(categoryRepository, skillRepository, roleRepository,
+                requirementRepository, progressionRepository)) {
+            inject(repository, "dataSource", dataSource);
+        }
+
+        competencyService = new CompetencyService();
+        inject(competencyService, "categoryRepository", categoryRepository);
+        inject(competencyService, "skillRepository", skillRepository);
+        inject(competencyService, "roleRepository", roleRepository);
+        inject(competencyService, "requirementRepository", requirementRepository);
+        SkillDescriptionStore descriptionStore = new SkillDescriptionStore();
+        inject(descriptionStore, "skillRepository", skillRepository);
+        inject(competencyService, "descriptionStore", descriptionStore);
+        inject(competencyService, "meterRegistry", new SimpleMeterRegistry());
+        invoke(competencyService, "initSingleFlights");
+
+        populate(seed);
+    }
+
+    private void populate(YamlCompetencyData seed) {
+        Map<String, Skill> skillsByName = new HashMap<>();
+        for (YamlCompetencyData.CategoryData categoryData : seed.categories()) {
+            CompetencyCategory category = categoryRepository.save(
+                    new CompetencyCategory(null, categoryData.name(), categoryData.displayOrder()));
+            for (YamlCompetencyData.SkillData skillData : categoryData.skills()) {
+                Map<String, String> levels = skillData.levels();
+                Skill skill = skillRepository.save(new Skill(skillData.name(), category.id(),
+                        levels.get("basis"), levels.get("redelijk"), levels.get("goed"), levels.get("uitstekend")));
+                skills.add(skill);
+                skillsByName.put(categoryData.name() + "/" + skillData.name(), skill);
+            }
+        }
+
+        Map<String, Role> rolesByName = new HashMap<>();
+        for (YamlCompetencyData.RoleData roleData : seed.roles()) {
+            Role role = roleRepository.save(new Role(roleData.name(), roleData.description(),
+                    roleData.roleFamily(), roleData.seniorityOrder()));
+            roles.add(role);
+            rolesByName.put(role.name(), role);
+            for (YamlCompetencyData.RequirementData requirement : roleData.requirements()) {
+                Skill skill = skillsByName.get(requirement.categoryName() + "/" + requirement.skillName());
+                ProficiencyLevel level = ProficiencyLevel.fromString(requirement.level());
+                requirementRepository.save(new RoleSkillRequirement(role.id(), skill.id(), level));
+            }
+        }
+
+        for (YamlCompetencyData.ProgressionData progression : seed.progressions()) {
+            progressions.add(progressionRepository.save(new RoleProgression(
+                    rolesByName.get(progression.fromRoleName()).id(), rolesByName.get(progression.toRoleName()).id())));
+        }
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName + " into " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot invoke " + methodName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.dispose();
+    }
+}
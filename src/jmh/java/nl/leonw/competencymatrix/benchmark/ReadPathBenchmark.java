@@ -0,0 +1,110 @@
+package nl.leonw.competencymatrix.benchmark;
+
+import nl.leonw.competencymatrix.config.CompetencySyncService;
+import nl.leonw.competencymatrix.dto.CompetencyMatrix;
+import nl.leonw.competencymatrix.dto.MatrixViewModel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.Skill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the core read paths against small, medium and large synthetic datasets.
+ * Run with {@code mvn -Pbenchmark verify -DskipTests}; results are written as JSON to
+ * target/jmh-result.json so runs can be diffed between releases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String dataset;
+
+    @Param({"42"})
+    public long randomSeed;
+
+    /**
+     * Seed directory to benchmark against instead of a generated dataset, e.g. the output of
+     * {@code SyntheticSeedGenerator}; empty means use {@link #dataset}.
+     */
+    @Param({""})
+    public String seedDirectory;
+
+    private BenchmarkDataset data;
+    private CompetencyMatrix matrix;
+    private MatrixViewModel matrixViewModel;
+    private CompetencySyncService syncService;
+    private Role role;
+    private RoleProgression progression;
+    private String[] roleNames;
+    private String[] skillNames;
+    private String[] unnormalizedNames;
+    private int lookup;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = seedDirectory.isEmpty()
+                ? new BenchmarkDataset(BenchmarkDataset.Size.valueOf(dataset), randomSeed)
+                : new BenchmarkDataset(Path.of(seedDirectory));
+        matrixViewModel = data.competencyService.buildMatrixViewModel(null);
+        matrix = matrixViewModel.matrix();
+        syncService = new CompetencySyncService();
+        role = data.roles.get(data.roles.size() / 2);
+        progression = data.progressions.get(data.progressions.size() / 2);
+        roleNames = data.roles.stream().map(Role::name).toArray(String[]::new);
+        skillNames = data.skills.stream().map(Skill::name).toArray(String[]::new);
+        unnormalizedNames = data.skills.stream()
+                .map(skill -> "  " + skill.name().toUpperCase().replace(" ", "   ") + " ")
+                .toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        data.close();
+    }
+
+    @Benchmark
+    public MatrixViewModel buildMatrixViewModel() {
+        return data.competencyService.buildMatrixViewModel(null);
+    }
+
+    @Benchmark
+    public Object compareRoles() {
+        return data.competencyService.compareRoles(progression.fromRoleId(), progression.toRoleId());
+    }
+
+    @Benchmark
+    public Object getSkillsByCategoryForRole() {
+        return data.competencyService.getSkillsByCategoryForRole(role.id());
+    }
+
+    @Benchmark
+    public String competencyMatrixGetLevel() {
+        int i = lookup++ & Integer.MAX_VALUE;
+        return matrix.getLevel(roleNames[i % roleNames.length], skillNames[(i / roleNames.length) % skillNames.length]);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return syncService.normalize(unnormalizedNames[(lookup++ & Integer.MAX_VALUE) % unnormalizedNames.length]);
+    }
+}
@@ -0,0 +1,392 @@
+package nl.leonw.competencymatrix.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model HTTP load driver for a running instance. Requests are started at a fixed total rate
+ * and spread over the routes by weight, each on its own virtual thread, so a slow server does not
+ * slow down the arrivals. Latency is measured from the moment a request was scheduled (not sent),
+ * which keeps queueing delay in the percentiles instead of hiding it (coordinated omission).
+ *
+ * <p>Role and skill ids are discovered from {@code /} and {@code /matrix} before the run. Requests
+ * scheduled during the warm-up are sent but not recorded.</p>
+ *
+ * <p>Run with {@code mvn -Pload-test verify -DskipTests -Dload.rate=500 -Dload.duration=60s} against
+ * an instance started separately (e.g. {@code mvn quarkus:dev}). Prints a per-route table and writes
+ * target/load/report.json plus one HdrHistogram percentile distribution (.hgrm) per route.</p>
+ *
+ * <p>With {@code --concurrency=1,8,32,128} the driver runs a closed-model sweep instead: for each level,
+ * that many clients on virtual threads send requests back to back for the warm-up plus the duration.
+ * Latency is then measured from sending, and throughput per level shows where the server stops
+ * scaling. Results are printed and written to target/load/sweep.json.</p>
+ *
+ * <p>Options: {@code --base-url=http://localhost:8080 --rate=100 --duration=30s --warmup=10s
+ * --mix=home:10,role:25,role-categories:25,compare-skills:15,matrix:10,tooltip:15 --seed=42
+ * --concurrency= --output=target/load}</p>
+ */
+public class LoadDriver {
+
+    private static final Pattern ROLE_LINK = Pattern.compile("/roles/(\\d+)");
+    private static final Pattern TOOLTIP_LINK = Pattern.compile("/matrix/tooltips/skill/(\\d+)");
+    private static final String[] LEVELS = {"BASIS", "REDELIJK", "GOED", "UITSTEKEND"};
+    private static final String DEFAULT_MIX = "home:10,role:25,role-categories:25,compare-skills:15,matrix:10,tooltip:15";
+
+    /**
+     * Routes the driver knows how to call. Path templates are filled with discovered ids.
+     */
+    enum Route {
+        HOME("home"),
+        ROLE("role"),
+        ROLE_CATEGORIES("role-categories"),
+        COMPARE_SKILLS("compare-skills"),
+        MATRIX("matrix"),
+        TOOLTIP("tooltip");
+
+        final String key;
+
+        Route(String key) {
+            this.key = key;
+        }
+
+        static Route fromKey(String key) {
+            for (Route route : values()) {
+                if (route.key.equals(key)) {
+                    return route;
+                }
+            }
+            throw new IllegalArgumentException("Unknown route: " + key);
+        }
+    }
+
+    record Options(URI baseUrl, int rate, Duration duration, Duration warmup, Map<Route, Integer> mix,
+                   long seed, List<Integer> concurrency, Path output) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                if (!option[0].startsWith("--") || option.length != 2) {
+                    throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+                }
+                values.put(option[0].substring(2), option[1]);
+            }
+
+            Map<Route, Integer> mix = new LinkedHashMap<>();
+            for (String entry : values.getOrDefault("mix", DEFAULT_MIX).split(",")) {
+                String[] weight = entry.trim().split(":");
+                mix.put(Route.fromKey(weight[0]), Integer.parseInt(weight[1]));
+            }
+
+            Options options = new Options(
+                    URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                    Integer.parseInt(values.getOrDefault("rate", "100")),
+                    duration(values.getOrDefault("duration", "30s")),
+                    duration(values.getOrDefault("warmup", "10s")),
+                    mix,
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    levels(values.getOrDefault("concurrency", "")),
+                    Path.of(values.getOrDefault("output", "target/load")));
+            if (options.rate < 1) {
+                throw new IllegalArgumentException("rate must be at least 1 request per second");
+            }
+            return options;
+        }
+
+        private static List<Integer> levels(String value) {
+            if (value.isBlank()) {
+                return List.of();
+            }
+            return Arrays.stream(value.split(",")).map(String::trim).map(Integer::valueOf).toList();
+        }
+
+        /**
+         * Parses durations like 30s, 2m or 1m30s.
+         */
+        private static Duration duration(String value) {
+            return Duration.parse("PT" + value.toUpperCase());
+        }
+    }
+
+    record RouteReport(String route, long requests, long errors, double throughput,
+                       double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    record Report(String baseUrl, int targetRate, long durationSeconds, List<RouteReport> routes, RouteReport total) {
+    }
+
+    record SweepLevel(int concurrency, RouteReport total) {
+    }
+
+    private final Options options;
+    private final HttpClient client;
+    private final Random random;
+    private final Map<Route, ConcurrentHistogram> histograms = new LinkedHashMap<>();
+    private final Map<Route, AtomicLong> errors = new LinkedHashMap<>();
+    private List<Integer> roleIds;
+    private List<Integer> skillIds;
+
+    LoadDriver(Options options, ExecutorService executor) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        this.client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        for (Route route : options.mix.keySet()) {
+            histograms.put(route, new ConcurrentHistogram(3));
+            errors.put(route, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        LoadDriver driver;
+        // Closing the executor waits for the requests still in flight
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            driver = new LoadDriver(options, executor);
+            driver.discover();
+            if (!options.concurrency.isEmpty()) {
+                printSweep(driver.sweep(executor), System.out);
+                return;
+            }
+            driver.run(executor);
+        }
+        print(driver.report(), System.out);
+    }
+
+    /**
+     * Collects role and skill ids from the home page and the matrix page.
+     */
+    void discover() throws IOException, InterruptedException {
+        roleIds = ids(get("/"), ROLE_LINK);
+        skillIds = ids(get("/matrix"), TOOLTIP_LINK);
+        if (roleIds.isEmpty() || skillIds.isEmpty()) {
+            throw new IllegalStateException("No roles or skills found at " + options.baseUrl);
+        }
+        System.out.printf("Discovered %d roles and %d skills at %s%n", roleIds.size(), skillIds.size(), options.baseUrl);
+    }
+
+    void run(ExecutorService executor) {
+        List<Route> schedule = weightedSchedule();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+
+        System.out.printf("Driving %d req/s for %ds (after %ds warm-up)%n",
+                options.rate, options.duration.toSeconds(), options.warmup.toSeconds());
+        for (long i = 0; ; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            if (scheduledAt >= end) {
+                break;
+            }
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Route route = schedule.get(random.nextInt(schedule.size()));
+            URI uri = options.baseUrl.resolve(path(route));
+            boolean recorded = scheduledAt >= measureFrom;
+            executor.execute(() -> send(route, uri, scheduledAt, recorded));
+        }
+    }
+
+    /**
+     * Closed-model sweep: per concurrency level, clients send requests back to back.
+     */
+    List<SweepLevel> sweep(ExecutorService executor) throws IOException, InterruptedException {
+        List<Route> schedule = weightedSchedule();
+        List<SweepLevel> levels = new ArrayList<>();
+        for (int clients : options.concurrency) {
+            histograms.values().forEach(Histogram::reset);
+            errors.values().forEach(count -> count.set(0));
+            System.out.printf("%d clients for %ds (after %ds warm-up)%n",
+                    clients, options.duration.toSeconds(), options.warmup.toSeconds());
+
+            long measureFrom = System.nanoTime() + options.warmup.toNanos();
+            long end = measureFrom + options.duration.toNanos();
+            CountDownLatch done = new CountDownLatch(clients);
+            for (int client = 0; client < clients; client++) {
+                executor.execute(() -> {
+                    try {
+                        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+                            Route route = schedule.get(random.nextInt(schedule.size()));
+                            send(route, options.baseUrl.resolve(path(route)), now, now >= measureFrom);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+
+            Histogram total = new Histogram(3);
+            histograms.values().forEach(total::add);
+            long totalErrors = errors.values().stream().mapToLong(AtomicLong::get).sum();
+            levels.add(new SweepLevel(clients,
+                    routeReport("total", total, totalErrors, options.duration.toNanos() / 1e9)));
+        }
+        Files.createDirectories(options.output);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(options.output.resolve("sweep.json").toFile(), levels);
+        return levels;
+    }
+
+    private void send(Route route, URI uri, long scheduledAt, boolean recorded) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("HX-Request", route == Route.ROLE_CATEGORIES || route == Route.COMPARE_SKILLS
+                        || route == Route.TOOLTIP ? "true" : "false")
+                .GET()
+                .build();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recorded) {
+            histograms.get(route).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+            if (failed) {
+                errors.get(route).incrementAndGet();
+            }
+        }
+    }
+
+    private String path(Route route) {
+        int role = pick(roleIds);
+        return switch (route) {
+            case HOME -> "/";
+            case ROLE -> "/roles/" + role;
+            case ROLE_CATEGORIES -> "/roles/" + role + "/categories";
+            case COMPARE_SKILLS -> "/compare/skills?from=" + role + "&to=" + pick(roleIds);
+            case MATRIX -> "/matrix";
+            case TOOLTIP -> "/matrix/tooltips/skill/" + pick(skillIds) + "?level=" + LEVELS[random.nextInt(LEVELS.length)];
+        };
+    }
+
+    private int pick(List<Integer> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private List<Route> weightedSchedule() {
+        List<Route> schedule = new ArrayList<>();
+        options.mix.forEach((route, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(route);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("Route mix has no weight");
+        }
+        return schedule;
+    }
+
+    Report report() throws IOException {
+        Files.createDirectories(options.output);
+        double seconds = options.duration.toNanos() / 1e9;
+        List<RouteReport> routes = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Route, ConcurrentHistogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long routeErrors = errors.get(entry.getKey()).get();
+            routes.add(routeReport(entry.getKey().key, histogram, routeErrors, seconds));
+            total.add(histogram);
+            totalErrors += routeErrors;
+            writeDistribution(entry.getKey().key, histogram);
+        }
+        writeDistribution("total", total);
+
+        Report report = new Report(options.baseUrl.toString(), options.rate, options.duration.toSeconds(), routes,
+                routeReport("total", total, totalErrors, seconds));
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(options.output.resolve("report.json").toFile(), report);
+        return report;
+    }
+
+    private static RouteReport routeReport(String route, Histogram histogram, long errors, double seconds) {
+        return new RouteReport(route, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(options.output.resolve(name + ".hgrm")))) {
+            // Values are recorded in microseconds; the distribution is written in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void print(Report report, PrintStream out) {
+        out.printf("%n%-16s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        List<RouteReport> rows = new ArrayList<>(report.routes());
+        rows.add(report.total());
+        for (RouteReport row : rows) {
+            out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.route(), row.requests(),
+                    row.errors(), row.throughput(), row.p50Ms(), row.p90Ms(), row.p99Ms(), row.p999Ms(), row.maxMs());
+        }
+    }
+
+    private static void printSweep(List<SweepLevel> levels, PrintStream out) {
+        out.printf("%n%11s %9s %7s %9s %9s %9s %9s%n",
+                "concurrency", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (SweepLevel level : levels) {
+            RouteReport row = level.total();
+            out.printf("%11d %9d %7d %9.1f %9.2f %9.2f %9.2f%n", level.concurrency(), row.requests(),
+                    row.errors(), row.throughput(), row.p50Ms(), row.p99Ms(), row.maxMs());
+        }
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(options.baseUrl.resolve(path)).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static List<Integer> ids(String html, Pattern pattern) {
+        Matcher matcher = pattern.matcher(html);
+        return matcher.results().map(match -> Integer.parseInt(match.group(1))).distinct().toList();
+    }
+}
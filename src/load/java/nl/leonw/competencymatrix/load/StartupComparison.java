@@ -0,0 +1,227 @@
+package nl.leonw.competencymatrix.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cold starts of the packaged application without and with a JDK AOT cache
+ * (see scripts/aot-train.sh). Each run starts a fresh JVM and measures, from process start:
+ * <ul>
+ *     <li>startup: the first successful response from {@code /}</li>
+ *     <li>ready: readiness UP, i.e. the startup sync has completed</li>
+ *     <li>first matrix: the first {@code /matrix} response after ready, and its latency</li>
+ *     <li>first fast matrix: the first sequential {@code /matrix} response that took at most
+ *     {@code --fast-ms}, i.e. when the JIT has caught up with the main page</li>
+ * </ul>
+ * Medians over the runs are printed and written to target/aot/startup-report.json.
+ *
+ * <p>Run by {@code mvn -Paot-cache verify -DskipTests} after the training run.</p>
+ *
+ * <p>Options: {@code --jar=<app jar> --cache=<aot cache> --java=<this JVM> --runs=3 --fast-ms=30
+ * --port=18080 --management-port=19000 --output=target/aot}</p>
+ */
+public class StartupComparison {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+    private static final int MAX_MATRIX_REQUESTS = 2000;
+
+    record Options(String java, Path jar, Path cache, int runs, double fastMs, int port, int managementPort, Path output) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                if (!option[0].startsWith("--") || option.length != 2) {
+                    throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+                }
+                values.put(option[0].substring(2), option[1]);
+            }
+            if (!values.containsKey("jar") || !values.containsKey("cache")) {
+                throw new IllegalArgumentException("--jar and --cache are required");
+            }
+            return new Options(
+                    values.getOrDefault("java", ProcessHandle.current().info().command().orElse("java")),
+                    Path.of(values.get("jar")),
+                    Path.of(values.get("cache")),
+                    Integer.parseInt(values.getOrDefault("runs", "3")),
+                    Double.parseDouble(values.getOrDefault("fast-ms", "30")),
+                    Integer.parseInt(values.getOrDefault("port", "18080")),
+                    Integer.parseInt(values.getOrDefault("management-port", "19000")),
+                    Path.of(values.getOrDefault("output", "target/aot")));
+        }
+    }
+
+    /**
+     * Times of one cold start, in milliseconds since the process was started. firstFastMatrixMs is -1
+     * when no {@code /matrix} response was fast enough within the request limit.
+     */
+    record Run(double startupMs, double readyMs, double firstMatrixMs, double firstMatrixLatencyMs,
+               double firstFastMatrixMs, int matrixRequests) {
+    }
+
+    record Variant(String name, List<Run> runs, Run median) {
+    }
+
+    record Report(String jar, double fastMs, List<Variant> variants) {
+    }
+
+    private final Options options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    StartupComparison(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (!Files.isRegularFile(options.cache)) {
+            throw new IllegalStateException("No AOT cache at " + options.cache + "; run scripts/aot-train.sh first");
+        }
+        StartupComparison comparison = new StartupComparison(options);
+        List<Variant> variants = List.of(
+                comparison.variant("without cache", List.of()),
+                comparison.variant("with cache", List.of("-XX:AOTCache=" + options.cache)));
+
+        Report report = new Report(options.jar.toString(), options.fastMs, variants);
+        Files.createDirectories(options.output);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(options.output.resolve("startup-report.json").toFile(), report);
+        print(report, System.out);
+    }
+
+    Variant variant(String name, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<Run> runs = new ArrayList<>();
+        for (int i = 0; i < options.runs; i++) {
+            runs.add(coldStart(jvmOptions));
+        }
+        return new Variant(name, runs, median(runs));
+    }
+
+    private Run coldStart(List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(options.java);
+        command.addAll(jvmOptions);
+        command.add("-Dquarkus.http.port=" + options.port);
+        command.add("-Dquarkus.management.port=" + options.managementPort);
+        command.add("-jar");
+        command.add(options.jar.toString());
+
+        Path log = Files.createTempFile("startup-comparison", ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        long started = System.nanoTime();
+        try {
+            URI base = URI.create("http://localhost:" + options.port);
+            URI ready = URI.create("http://localhost:" + options.managementPort + "/q/health/ready");
+
+            double startupMs = await(process, base, started, log);
+            double readyMs = await(process, ready, started, log);
+
+            double firstMatrixMs = -1;
+            double firstMatrixLatencyMs = -1;
+            double firstFastMatrixMs = -1;
+            int requests = 0;
+            while (requests < MAX_MATRIX_REQUESTS && firstFastMatrixMs < 0) {
+                long sent = System.nanoTime();
+                int status = status(base.resolve("/matrix"));
+                double latencyMs = (System.nanoTime() - sent) / 1e6;
+                requests++;
+                if (status != 200) {
+                    throw new IllegalStateException("GET /matrix returned " + status + "; see " + log);
+                }
+                if (firstMatrixMs < 0) {
+                    firstMatrixMs = millisSince(started);
+                    firstMatrixLatencyMs = latencyMs;
+                }
+                if (latencyMs <= options.fastMs) {
+                    firstFastMatrixMs = millisSince(started);
+                }
+            }
+            Files.deleteIfExists(log);
+            return new Run(startupMs, readyMs, firstMatrixMs, firstMatrixLatencyMs, firstFastMatrixMs, requests);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Polls the URI until it answers 200 and returns the time since the process was started.
+     */
+    private double await(Process process, URI uri, long started, Path log) throws InterruptedException {
+        long deadline = started + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + "; see " + log);
+            }
+            if (status(uri) == 200) {
+                return millisSince(started);
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException(uri + " did not answer within " + TIMEOUT + "; see " + log);
+    }
+
+    private int status(URI uri) throws InterruptedException {
+        try {
+            return client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            // Not listening yet
+            return -1;
+        }
+    }
+
+    private static double millisSince(long started) {
+        return (System.nanoTime() - started) / 1e6;
+    }
+
+    private static Run median(List<Run> runs) {
+        return new Run(
+                median(runs.stream().mapToDouble(Run::startupMs).toArray()),
+                median(runs.stream().mapToDouble(Run::readyMs).toArray()),
+                median(runs.stream().mapToDouble(Run::firstMatrixMs).toArray()),
+                median(runs.stream().mapToDouble(Run::firstMatrixLatencyMs).toArray()),
+                median(runs.stream().mapToDouble(Run::firstFastMatrixMs).toArray()),
+                (int) median(runs.stream().mapToDouble(Run::matrixRequests).toArray()));
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static void print(Report report, PrintStream out) {
+        out.printf("%nMedian of %d cold starts; fast means /matrix in at most %.1f ms%n",
+                report.variants().getFirst().runs().size(), report.fastMs());
+        out.printf("%-14s %11s %9s %14s %16s %17s %9s%n",
+                "", "startup ms", "ready ms", "1st matrix ms", "1st matrix lat.", "1st fast matrix", "requests");
+        for (Variant variant : report.variants()) {
+            Run run = variant.median();
+            out.printf("%-14s %11.0f %9.0f %14.0f %16.1f %17.0f %9d%n", variant.name(), run.startupMs(),
+                    run.readyMs(), run.firstMatrixMs(), run.firstMatrixLatencyMs(), run.firstFastMatrixMs(),
+                    run.matrixRequests());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package nl.leonw.competencymatrix.config;
+
+/**
+ * CDI event fired by {@link CompetencySyncService} when a sync changed competency data.
+ * Observe with {@code during = TransactionPhase.AFTER_SUCCESS} to rebuild in-memory
+ * views only once the changes are committed.
+ *
+ * @param result summary of the applied changes
+ */
+public record CompetencyDataChanged(SyncResult result) {
+}
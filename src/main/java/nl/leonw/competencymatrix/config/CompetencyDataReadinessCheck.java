@@ -0,0 +1,35 @@
+package nl.leonw.competencymatrix.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * DOWN until the startup sync of {@link DataSeeder} has completed, so no traffic is routed to an
+ * instance that is still seeding. After a failed sync it is DOWN until a retry or a later model load
+ * succeeds. Liveness is not affected.
+ */
+@Readiness
+@ApplicationScoped
+public class CompetencyDataReadinessCheck implements HealthCheck {
+
+    static final String NAME = "Competency data";
+
+    @Inject
+    DataSeeder dataSeeder;
+
+    @Override
+    public HealthCheckResponse call() {
+        DataSeeder.State state = dataSeeder.state();
+        HealthCheckResponseBuilder response = HealthCheckResponse.named(NAME)
+                .status(state == DataSeeder.State.READY)
+                .withData("state", state.name());
+        if (dataSeeder.failure() != null) {
+            response.withData("error", String.valueOf(dataSeeder.failure().getMessage()));
+        }
+        return response.build();
+    }
+}
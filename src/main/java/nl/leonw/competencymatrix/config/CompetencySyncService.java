@@ -1,33 +1,43 @@
 package nl.leonw.competencymatrix.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.NameNormalizer;
 import nl.leonw.competencymatrix.model.Role;
 import nl.leonw.competencymatrix.model.RoleProgression;
 import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.SeedState;
 import nl.leonw.competencymatrix.model.Skill;
 import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.DataGenerationRepository;
 import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
 import nl.leonw.competencymatrix.repository.RoleRepository;
 import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SeedStateRepository;
 import nl.leonw.competencymatrix.repository.SkillRepository;
+import nl.leonw.competencymatrix.repository.StatementTally;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.Yaml;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-
-import static java.nio.charset.StandardCharsets.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Core service for synchronizing competencies from YAML to database.
@@ -53,9 +63,36 @@ public class CompetencySyncService {
     @Inject
     RoleProgressionRepository progressionRepository;
 
+    @Inject
+    SeedStateRepository seedStateRepository;
+
+    @Inject
+    DataGenerationRepository dataGenerationRepository;
+
+    @Inject
+    SyncPlanner syncPlanner;
+
+    @Inject
+    Event<CompetencyDataChanged> dataChanged;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
     @ConfigProperty(name = "competency.sync.mode")
     Optional<String> syncModeValue;
 
+    @ConfigProperty(name = "competency.seed.precompiled", defaultValue = "true")
+    boolean usePrecompiledSeed;
+
+    @ConfigProperty(name = "competency.seed.directory")
+    Optional<Path> seedDirectory;
+
+    @ConfigProperty(name = "competency.seed.requirements-csv")
+    Optional<Path> requirementsCsv;
+
+    @ConfigProperty(name = "competency.sync.skip-unchanged", defaultValue = "true")
+    boolean skipUnchanged;
+
     /**
      * Entry point for startup synchronization based on configured sync mode.
      * Reads configuration, loads YAML data, and executes sync operations.
@@ -64,6 +101,33 @@ public class CompetencySyncService {
      */
     @Transactional
     public SyncResult syncFromConfiguration() {
+        return syncFromConfiguration(SyncProgressListener.NONE);
+    }
+
+    /**
+     * Startup/reload synchronization that reports phase-level progress.
+     *
+     * @param listener receives a callback after each {@link SyncPhase}
+     * @return SyncResult summary of changes
+     */
+    @Transactional
+    public SyncResult syncFromConfiguration(SyncProgressListener listener) {
+        return syncFromConfiguration(listener, false);
+    }
+
+    /**
+     * Startup synchronization. With competency.sync.skip-unchanged (the default) nothing is planned or written
+     * when the database was last synced from the same seed in the same mode, which is the case after a restart
+     * with a persistent database (see the {@code persistent} profile).
+     *
+     * @return SyncResult summary of changes; empty when skipped
+     */
+    @Transactional
+    public SyncResult syncAtStartup() {
+        return syncFromConfiguration(SyncProgressListener.NONE, skipUnchanged);
+    }
+
+    private SyncResult syncFromConfiguration(SyncProgressListener listener, boolean skipIfUnchanged) {
         String configuredValue = syncModeValue.orElse(null);
         if (configuredValue == null) {
             log.warn("Competency sync mode not configured, defaulting to 'none'. Set competency.sync.mode property.");
@@ -77,15 +141,15 @@ public class CompetencySyncService {
 
         log.info("Starting competency sync - mode: {}", mode.name().toLowerCase());
 
-        try {
+        try (SyncRun run = new SyncRun(listener)) {
+            PhaseWork start = run.mark();
             YamlCompetencyData data = loadYamlData();
-            SyncResult result = switch (mode) {
-                case MERGE -> syncMerge(data);
-                case REPLACE -> syncReplace(data);
-                case NONE -> emptyResult();
-            };
+            run.phaseCompleted(SyncPhase.PARSE, entityCount(data), run.since(start));
+
+            SyncResult result = sync(mode, data, run, skipIfUnchanged);
 
             log.info(result.formatSummary());
+            log.info(result.formatTimings());
             return result;
         } catch (RuntimeException e) {
             log.error("Competency sync failed", e);
@@ -93,6 +157,52 @@ public class CompetencySyncService {
         }
     }
 
+    /**
+     * Synchronizes already loaded YAML data using the configured sync mode.
+     * Used by {@link SeedDirectoryWatcher} after re-parsing only the changed seed files; the requirements CSV,
+     * if configured, is laid over it as at startup.
+     *
+     * @param data merged competency data
+     * @return SyncResult summary of changes
+     */
+    @Transactional
+    public SyncResult syncData(YamlCompetencyData data) {
+        SyncMode mode = resolveSyncMode(syncModeValue.orElse(null));
+        if (mode == SyncMode.NONE) {
+            log.info("Competency sync mode set to none; skipping sync.");
+            return emptyResult();
+        }
+        try (SyncRun run = new SyncRun(SyncProgressListener.NONE)) {
+            return sync(mode, withRequirementsCsv(data), run);
+        }
+    }
+
+    /**
+     * Synchronizes the configured seed with the requirement matrix of a wide CSV laid over it (see
+     * {@link CsvSeedReader}), using the configured sync mode. The CSV is read row by row; the result is reported
+     * like a YAML sync.
+     *
+     * @param csv UTF-8 CSV with Skill and Category columns and one column per role
+     * @return SyncResult summary of changes
+     */
+    @Transactional
+    public SyncResult syncCsv(InputStream csv) {
+        SyncMode mode = resolveSyncMode(syncModeValue.orElse(null));
+        if (mode == SyncMode.NONE) {
+            log.info("Competency sync mode set to none; skipping sync.");
+            return emptyResult();
+        }
+        try (SyncRun run = new SyncRun(SyncProgressListener.NONE)) {
+            PhaseWork start = run.mark();
+            YamlCompetencyData data = CsvSeedReader.overlay(loadYamlData(), csv);
+            run.phaseCompleted(SyncPhase.PARSE, entityCount(data), run.since(start));
+
+            SyncResult result = sync(mode, data, run);
+            log.info(result.formatSummary());
+            return result;
+        }
+    }
+
     /**
      * Parses competencies.yaml file into in-memory data structures.
      *
@@ -100,20 +210,9 @@ public class CompetencySyncService {
      * @return Parsed competency data
      * @throws RuntimeException if YAML parsing fails
      */
-    @SuppressWarnings("unchecked")
     public YamlCompetencyData parseYaml(InputStream inputStream) {
         try {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
-
-            List<YamlCompetencyData.CategoryData> categories = parseCategories(
-                    (List<Map<String, Object>>) data.get("categories"));
-            List<YamlCompetencyData.RoleData> roles = parseRoles(
-                    (List<Map<String, Object>>) data.get("roles"));
-            List<YamlCompetencyData.ProgressionData> progressions = parseProgressions(
-                    (List<Map<String, Object>>) data.get("progressions"));
-
-            return new YamlCompetencyData(categories, roles, progressions);
+            return new SeedLoader(getClass().getClassLoader(), "seed").parse(inputStream);
         } catch (Exception e) {
             log.error("Failed to parse YAML file", e);
             throw new RuntimeException("Failed to parse competencies.yaml: " + e.getMessage(), e);
@@ -127,71 +226,7 @@ public class CompetencySyncService {
      * @throws RuntimeException if validation fails
      */
     public void validateYaml(YamlCompetencyData data) {
-        if (data.categories() == null || data.roles() == null || data.progressions() == null) {
-            throw new RuntimeException("Invalid YAML: missing required top-level keys (categories, roles, progressions)");
-        }
-
-        // Validate categories
-        for (YamlCompetencyData.CategoryData category : data.categories()) {
-            if (category.name() == null || category.name().trim().isEmpty()) {
-                throw new RuntimeException("Invalid YAML: Category name is required");
-            }
-            if (category.skills() == null) {
-                throw new RuntimeException("Invalid YAML: Category '" + category.name() + "' is missing 'skills' list");
-            }
-
-            // Validate skills
-            for (YamlCompetencyData.SkillData skill : category.skills()) {
-                if (skill.name() == null || skill.name().trim().isEmpty()) {
-                    throw new RuntimeException("Invalid YAML: Skill name is required in category '" + category.name() + "'");
-                }
-                if (skill.levels() == null || skill.levels().size() != 4) {
-                    throw new RuntimeException("Invalid YAML: Skill '" + skill.name() + "' must have all four levels (basic, decent, good, excellent)");
-                }
-                if (!skill.levels().containsKey("basis") || !skill.levels().containsKey("redelijk") ||
-                    !skill.levels().containsKey("goed") || !skill.levels().containsKey("uitstekend")) {
-                    throw new RuntimeException("Invalid YAML: Skill '" + skill.name() + "' must have levels: basis, redelijk, goed, uitstekend");
-                }
-            }
-        }
-
-        // Validate roles
-        for (YamlCompetencyData.RoleData role : data.roles()) {
-            if (role.name() == null || role.name().trim().isEmpty()) {
-                throw new RuntimeException("Invalid YAML: Role name is required");
-            }
-            if (role.description() == null) {
-                throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' is missing 'description'");
-            }
-            if (role.requirements() == null) {
-                throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' is missing 'requirements' list");
-            }
-
-            // Validate requirements
-            for (YamlCompetencyData.RequirementData req : role.requirements()) {
-                if (req.skillName() == null || req.skillName().trim().isEmpty()) {
-                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing skill name");
-                }
-                if (req.categoryName() == null || req.categoryName().trim().isEmpty()) {
-                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing category name");
-                }
-                if (req.level() == null || req.level().trim().isEmpty()) {
-                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing level");
-                }
-            }
-        }
-
-        // Validate progressions
-        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
-            if (progression.fromRoleName() == null || progression.fromRoleName().trim().isEmpty()) {
-                throw new RuntimeException("Invalid YAML: Progression missing 'from' role name");
-            }
-            if (progression.toRoleName() == null || progression.toRoleName().trim().isEmpty()) {
-                throw new RuntimeException("Invalid YAML: Progression missing 'to' role name");
-            }
-        }
-
-        log.debug("YAML validation passed");
+        SeedValidator.validateStructure(data);
     }
 
     /**
@@ -239,38 +274,170 @@ public class CompetencySyncService {
      * @return SyncResult summary of changes
      */
     public SyncResult syncMerge(YamlCompetencyData data) {
-        validateYaml(data);
-
-        SyncCounters counters = new SyncCounters();
-        Map<String, CompetencyCategory> categoryIndex = processCategories(data.categories(), counters);
-        Map<String, Skill> skillIndex = processSkills(data.categories(), categoryIndex, counters);
-        Map<String, Role> roleIndex = processRoles(data.roles(), counters);
-        processRequirements(data.roles(), roleIndex, categoryIndex, skillIndex, counters);
-        processProgressions(data.progressions(), roleIndex, counters);
-
-        return counters.toResult();
+        try (SyncRun run = new SyncRun(SyncProgressListener.NONE)) {
+            return sync(SyncMode.MERGE, data, run);
+        }
     }
 
     /**
      * Synchronizes competency data using replace mode with provided YAML data.
-     * Deletes all existing competency data before applying the YAML contents.
+     * Deletes all competency data that is not in the YAML and applies the YAML contents.
      *
      * @param data Parsed YAML data
      * @return SyncResult summary of deletions and additions
      */
     public SyncResult syncReplace(YamlCompetencyData data) {
+        try (SyncRun run = new SyncRun(SyncProgressListener.NONE)) {
+            return sync(SyncMode.REPLACE, data, run);
+        }
+    }
+
+    /**
+     * Computes the change plan for the configured sync mode without writing anything.
+     *
+     * @return plan that {@link #syncFromConfiguration()} would apply
+     */
+    public SyncPlan planFromConfiguration() {
+        SyncMode mode = resolveSyncMode(syncModeValue.orElse(null));
+        if (mode == SyncMode.NONE) {
+            return SyncPlan.empty(mode);
+        }
+        YamlCompetencyData data = loadYamlData();
         validateYaml(data);
+        return syncPlanner.plan(data, mode);
+    }
 
-        SyncCounters counters = new SyncCounters();
-        deleteAllEntities(counters);
+    /**
+     * Applies a change plan: deletes in dependency order, then inserts and updates.
+     * Ids of newly inserted entities are resolved by name for dependent changes.
+     * A plan without changes does not touch the database.
+     *
+     * @param plan plan computed by {@link SyncPlanner}
+     * @return SyncResult summary of applied changes
+     */
+    @Transactional
+    public SyncResult applyPlan(SyncPlan plan) {
+        return applyPlan(plan, SyncProgressListener.NONE);
+    }
 
-        Map<String, CompetencyCategory> categoryIndex = processCategories(data.categories(), counters);
-        Map<String, Skill> skillIndex = processSkills(data.categories(), categoryIndex, counters);
-        Map<String, Role> roleIndex = processRoles(data.roles(), counters);
-        processRequirements(data.roles(), roleIndex, categoryIndex, skillIndex, counters);
-        processProgressions(data.progressions(), roleIndex, counters);
+    /**
+     * Applies a change plan and reports each completed {@link SyncPhase}.
+     * Deletes run first for all phases (children before parents); their time is attributed to their phase.
+     *
+     * @param plan     plan computed by {@link SyncPlanner}
+     * @param listener receives a callback after each phase
+     * @return SyncResult summary of applied changes, with the timings of the write phases
+     */
+    @Transactional
+    public SyncResult applyPlan(SyncPlan plan, SyncProgressListener listener) {
+        dataGenerationRepository.lock();
+        try (SyncRun run = new SyncRun(listener)) {
+            SyncResult result = applyPlan(plan, run);
+            if (!plan.isEmpty()) {
+                // The data no longer matches a seed as a whole, so the next startup must sync
+                seedStateRepository.delete();
+            }
+            return result;
+        }
+    }
 
-        return counters.toResult();
+    private SyncResult applyPlan(SyncPlan plan, SyncRun run) {
+        if (plan.isEmpty()) {
+            log.debug("Sync plan is empty; database already up to date");
+            for (SyncPhase phase : SyncPhase.writePhases()) {
+                run.phaseSkipped(phase);
+            }
+            return plan.toResult().withTimings(run.timings);
+        }
+
+        Map<SyncPhase, PhaseWork> deletes = applyDeletes(plan, run);
+
+        PhaseWork phaseStart = run.mark();
+        Map<String, Integer> categoryIds = new HashMap<>();
+        for (CompetencyCategory category : plan.categories().inserts()) {
+            CompetencyCategory created = categoryRepository.save(category);
+            categoryIds.put(normalize(created.name()), created.id());
+            log.info("Category added: {}", created.name());
+        }
+        for (CompetencyCategory category : plan.categories().updates()) {
+            categoryRepository.save(category);
+            log.info("Category updated: {}", category.name());
+        }
+        run.phaseCompleted(SyncPhase.CATEGORIES, plan.categories().size(), run.since(phaseStart).plus(deletes.get(SyncPhase.CATEGORIES)));
+
+        phaseStart = run.mark();
+        Map<String, Integer> skillIds = new HashMap<>();
+        for (SyncPlan.SkillChange change : plan.skills().inserts()) {
+            Skill skill = change.skill();
+            Integer categoryId = skill.categoryId() != null
+                    ? skill.categoryId()
+                    : resolvePlanned(categoryIds, normalize(change.categoryName()), "category", change.categoryName());
+            Skill created = skillRepository.save(new Skill(skill.name(), categoryId, skill.basicDescription(),
+                    skill.decentDescription(), skill.goodDescription(), skill.excellentDescription()));
+            skillIds.put(SyncPlanner.skillKey(change.categoryName(), created.name()), created.id());
+            log.info("Skill added: {} in category {}", created.name(), change.categoryName());
+        }
+        for (SyncPlan.SkillChange change : plan.skills().updates()) {
+            skillRepository.save(change.skill());
+            log.info("Skill updated: {} in category {}", change.skill().name(), change.categoryName());
+        }
+        run.phaseCompleted(SyncPhase.SKILLS, plan.skills().size(), run.since(phaseStart).plus(deletes.get(SyncPhase.SKILLS)));
+
+        phaseStart = run.mark();
+        Map<String, Integer> roleIds = new HashMap<>();
+        for (Role role : plan.roles().inserts()) {
+            Role created = roleRepository.save(role);
+            roleIds.put(normalize(created.name()), created.id());
+            log.info("Role added: {}", created.name());
+        }
+        for (Role role : plan.roles().updates()) {
+            roleRepository.save(role);
+            log.info("Role updated: {}", role.name());
+        }
+        run.phaseCompleted(SyncPhase.ROLES, plan.roles().size(), run.since(phaseStart).plus(deletes.get(SyncPhase.ROLES)));
+
+        phaseStart = run.mark();
+        List<RoleSkillRequirement> requirementInserts = new ArrayList<>(plan.requirements().inserts().size());
+        for (SyncPlan.RequirementChange change : plan.requirements().inserts()) {
+            RoleSkillRequirement requirement = change.requirement();
+            Integer roleId = requirement.roleId() != null
+                    ? requirement.roleId()
+                    : resolvePlanned(roleIds, normalize(change.roleName()), "role", change.roleName());
+            Integer skillId = requirement.skillId() != null
+                    ? requirement.skillId()
+                    : resolvePlanned(skillIds, SyncPlanner.skillKey(change.categoryName(), change.skillName()),
+                            "skill", change.skillName());
+            requirementInserts.add(new RoleSkillRequirement(roleId, skillId, requirement.requiredLevel()));
+            log.info("Requirement added: {} -> {} at {}", change.roleName(), change.skillName(), requirement.requiredLevel());
+        }
+        requirementRepository.insertAll(requirementInserts);
+        List<RoleSkillRequirement> requirementUpdates = new ArrayList<>(plan.requirements().updates().size());
+        for (SyncPlan.RequirementChange change : plan.requirements().updates()) {
+            requirementUpdates.add(change.requirement());
+            log.info("Requirement updated: {} -> {} at {}", change.roleName(), change.skillName(),
+                    change.requirement().requiredLevel());
+        }
+        requirementRepository.updateLevels(requirementUpdates);
+        run.phaseCompleted(SyncPhase.REQUIREMENTS, plan.requirements().size(), run.since(phaseStart).plus(deletes.get(SyncPhase.REQUIREMENTS)));
+
+        phaseStart = run.mark();
+        for (SyncPlan.ProgressionChange change : plan.progressions().inserts()) {
+            RoleProgression progression = change.progression();
+            Integer fromRoleId = progression.fromRoleId() != null
+                    ? progression.fromRoleId()
+                    : resolvePlanned(roleIds, normalize(change.fromRoleName()), "role", change.fromRoleName());
+            Integer toRoleId = progression.toRoleId() != null
+                    ? progression.toRoleId()
+                    : resolvePlanned(roleIds, normalize(change.toRoleName()), "role", change.toRoleName());
+            progressionRepository.save(new RoleProgression(fromRoleId, toRoleId));
+            log.info("Progression added: {} -> {}", change.fromRoleName(), change.toRoleName());
+        }
+        run.phaseCompleted(SyncPhase.PROGRESSIONS, plan.progressions().size(), run.since(phaseStart).plus(deletes.get(SyncPhase.PROGRESSIONS)));
+
+        dataGenerationRepository.increment(Instant.now());
+        SyncResult result = plan.toResult().withTimings(run.timings);
+        dataChanged.fire(new CompetencyDataChanged(result));
+        return result;
     }
 
     /**
@@ -293,638 +460,216 @@ public class CompetencySyncService {
      * @return Normalized string (lowercase, trimmed, single spaces)
      */
     public String normalize(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value.trim().replaceAll("\\s+", " ").toLowerCase();
+        return NameNormalizer.normalize(value);
     }
 
     /**
-     * Load competency data from multiple YAML files (JAR-compatible).
-     * T017-T022: Multi-file loading with error reporting and logging
+     * Loads the seed. An external seed directory (competency.seed.directory) takes precedence over
+     * the bundled seed. For the bundled seed the model compiled at build time by {@code SeedCompiler}
+     * is preferred; the split YAML files are parsed when it is absent or disabled (e.g. in dev mode).
+     * The requirement matrix of competency.seed.requirements-csv, if set, is laid over the seed.
      *
      * @return merged competency data from all files
      */
     private YamlCompetencyData loadYamlData() {
-        log.info("Loading competency data from split YAML files");
-
-        List<YamlCompetencyData.CategoryData> allCategories = new ArrayList<>();
-        List<YamlCompetencyData.RoleData> allRoles = new ArrayList<>();
-        List<YamlCompetencyData.ProgressionData> allProgressions = new ArrayList<>();
-
-        Map<String, String> categoryFileMap = new HashMap<>();
-        Map<String, String> roleFileMap = new HashMap<>();
-
-        // T019: Discover and load category resources from classpath
-        List<String> categoryResources = discoverYamlResources("seed/categories");
-        log.info("Discovered {} category files", categoryResources.size());
-
-        for (String resourcePath : categoryResources) {
-            try {
-                String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
-                log.info("Loading category file: {}", filename);
-                YamlCompetencyData data = parseYamlResource(resourcePath);
-
-                // T020: Merge categories using List.addAll()
-                if (data.categories() != null && !data.categories().isEmpty()) {
-                    for (YamlCompetencyData.CategoryData category : data.categories()) {
-                        categoryFileMap.put(category.name(), filename);
-                    }
-                    allCategories.addAll(data.categories());
-                }
-            } catch (Exception e) {
-                // T021: Per-file error reporting with filename context
-                String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
-                String error = String.format("Failed to load category file %s: %s", filename, e.getMessage());
-                log.error(error, e);
-                throw new RuntimeException(error, e);
-            }
-        }
-
-        // T018: Detect duplicate categories across files
-        detectDuplicateCategories(allCategories, categoryFileMap);
-
-        // Load role resources from classpath
-        List<String> roleResources = discoverYamlResources("seed/roles");
-        log.info("Discovered {} role files", roleResources.size());
-
-        for (String resourcePath : roleResources) {
-            try {
-                String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
-                log.info("Loading role file: {}", filename);
-                YamlCompetencyData data = parseYamlResource(resourcePath);
-
-                if (data.roles() != null && !data.roles().isEmpty()) {
-                    for (YamlCompetencyData.RoleData role : data.roles()) {
-                        roleFileMap.put(role.name(), filename);
-                    }
-                    allRoles.addAll(data.roles());
-                }
-            } catch (Exception e) {
-                String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
-                String error = String.format("Failed to load role file %s: %s", filename, e.getMessage());
-                log.error(error, e);
-                throw new RuntimeException(error, e);
-            }
-        }
-
-        // Detect duplicate roles across files
-        detectDuplicateRoles(allRoles, roleFileMap);
-
-        // Load progressions from single file (classpath resource)
-        String progressionsPath = "seed/progressions.yaml";
-        if (getClass().getClassLoader().getResource(progressionsPath) != null) {
-            try {
-                log.info("Loading progressions from progressions.yaml");
-                YamlCompetencyData data = parseYamlResource(progressionsPath);
-
-                if (data.progressions() != null) {
-                    allProgressions.addAll(data.progressions());
-                }
-            } catch (Exception e) {
-                log.warn("Failed to load progressions.yaml: {}", e.getMessage());
-                // Progressions are optional, continue without them
-            }
-        } else {
-            log.warn("progressions.yaml not found, no progressions will be loaded");
-        }
-
-        // T022: Log summary of loaded data
-        log.info("Loaded {} categories, {} roles, {} progressions from split files",
-                allCategories.size(), allRoles.size(), allProgressions.size());
-
-        return new YamlCompetencyData(allCategories, allRoles, allProgressions);
+        return withRequirementsCsv(loadSeed());
     }
 
-    private Map<String, CompetencyCategory> processCategories(List<YamlCompetencyData.CategoryData> categories,
-                                                              SyncCounters counters) {
-        Map<String, CompetencyCategory> categoryIndex = new HashMap<>();
-        for (CompetencyCategory existing : categoryRepository.findAllOrderByDisplayOrder()) {
-            categoryIndex.put(normalize(existing.name()), existing);
-        }
-
-        for (YamlCompetencyData.CategoryData yamlCategory : categories) {
-            String normalizedName = normalize(yamlCategory.name());
-            CompetencyCategory existing = categoryIndex.get(normalizedName);
-
-            if (existing == null) {
-                CompetencyCategory created = categoryRepository.save(
-                        new CompetencyCategory(yamlCategory.name(), yamlCategory.displayOrder()));
-                categoryIndex.put(normalizedName, created);
-                counters.categoriesAdded++;
-                log.info("Category added: {}", created.name());
-            } else if (categoryNeedsUpdate(existing, yamlCategory)) {
-                CompetencyCategory updated = categoryRepository.save(new CompetencyCategory(
-                        existing.id(), yamlCategory.name(), yamlCategory.displayOrder()));
-                categoryIndex.put(normalizedName, updated);
-                counters.categoriesUpdated++;
-                log.info("Category updated: {}", updated.name());
-            } else {
-                categoryIndex.put(normalizedName, existing);
-            }
+    private YamlCompetencyData withRequirementsCsv(YamlCompetencyData seed) {
+        if (requirementsCsv.isEmpty()) {
+            return seed;
         }
-
-        return categoryIndex;
+        log.info("Applying requirements CSV: {}", requirementsCsv.get());
+        return CsvSeedReader.overlay(seed, requirementsCsv.get());
     }
 
-    private Map<String, Skill> processSkills(List<YamlCompetencyData.CategoryData> categories,
-                                             Map<String, CompetencyCategory> categoryIndex,
-                                             SyncCounters counters) {
-        Map<String, Skill> skillIndex = new HashMap<>();
-
-        for (YamlCompetencyData.CategoryData yamlCategory : categories) {
-            CompetencyCategory category = resolveCategory(yamlCategory.name(), categoryIndex);
-
-            Map<String, Skill> existingSkillsByName = new HashMap<>();
-            for (Skill existing : skillRepository.findByCategoryId(category.id())) {
-                existingSkillsByName.put(normalize(existing.name()), existing);
-                skillIndex.put(skillKey(category.name(), existing.name()), existing);
-            }
-
-            for (YamlCompetencyData.SkillData yamlSkill : yamlCategory.skills()) {
-                String normalizedSkill = normalize(yamlSkill.name());
-                Skill existing = existingSkillsByName.get(normalizedSkill);
-                Map<String, String> levels = yamlSkill.levels();
-                String basis = levels.get("basis");
-                String redelijk = levels.get("redelijk");
-                String goed = levels.get("goed");
-                String uitstekend = levels.get("uitstekend");
-
-                if (existing == null) {
-                    Skill created = skillRepository.save(new Skill(
-                            yamlSkill.name(), category.id(), basis, redelijk, goed, uitstekend));
-                    skillIndex.put(skillKey(category.name(), created.name()), created);
-                    counters.skillsAdded++;
-                    log.info("Skill added: {} in category {}", created.name(), category.name());
-                } else if (skillNeedsUpdate(existing, yamlSkill)) {
-                    Skill updated = skillRepository.save(new Skill(
-                            existing.id(), yamlSkill.name(), category.id(), basis, redelijk, goed, uitstekend));
-                    skillIndex.put(skillKey(category.name(), updated.name()), updated);
-                    counters.skillsUpdated++;
-                    log.info("Skill updated: {} in category {}", updated.name(), category.name());
-                } else {
-                    skillIndex.put(skillKey(category.name(), existing.name()), existing);
+    private YamlCompetencyData loadSeed() {
+        if (seedDirectory.isPresent()) {
+            log.info("Loading seed from external directory: {}", seedDirectory.get());
+            return new SeedLoader(seedDirectory.get()).load();
+        }
+        if (usePrecompiledSeed) {
+            try (InputStream compiled = getClass().getClassLoader().getResourceAsStream(CompiledSeed.RESOURCE)) {
+                if (compiled != null) {
+                    YamlCompetencyData data = CompiledSeed.read(compiled);
+                    log.info("Loaded precompiled seed: {} categories, {} roles, {} progressions",
+                            data.categories().size(), data.roles().size(), data.progressions().size());
+                    return data;
                 }
+                log.debug("No precompiled seed found at {}, parsing YAML files", CompiledSeed.RESOURCE);
+            } catch (IOException e) {
+                log.warn("Failed to read precompiled seed, parsing YAML files instead: {}", e.getMessage());
             }
         }
-
-        return skillIndex;
+        return new SeedLoader(getClass().getClassLoader(), "seed").load();
     }
 
-    private Map<String, Role> processRoles(List<YamlCompetencyData.RoleData> roles, SyncCounters counters) {
-        Map<String, Role> roleIndex = new HashMap<>();
-        for (Role existing : roleRepository.findAllOrderByName()) {
-            roleIndex.put(normalize(existing.name()), existing);
-        }
-
-        for (YamlCompetencyData.RoleData yamlRole : roles) {
-            String normalizedName = normalize(yamlRole.name());
-            Role existing = roleIndex.get(normalizedName);
-
-            if (existing == null) {
-                Role created = roleRepository.save(new Role(yamlRole.name(), yamlRole.description(),
-                        yamlRole.roleFamily(), yamlRole.seniorityOrder()));
-                roleIndex.put(normalizedName, created);
-                counters.rolesAdded++;
-                log.info("Role added: {}", created.name());
-            } else if (roleNeedsUpdate(existing, yamlRole)) {
-                Role updated = roleRepository.save(new Role(existing.id(), yamlRole.name(), yamlRole.description(),
-                    yamlRole.roleFamily(), yamlRole.seniorityOrder()));
-                roleIndex.put(normalizedName, updated);
-                counters.rolesUpdated++;
-                log.info("Role updated: {}", updated.name());
-            } else {
-                roleIndex.put(normalizedName, existing);
-            }
-        }
-
-        return roleIndex;
+    private SyncResult sync(SyncMode mode, YamlCompetencyData data, SyncRun run) {
+        return sync(mode, data, run, false);
     }
 
-    private void processRequirements(List<YamlCompetencyData.RoleData> roles,
-                                     Map<String, Role> roleIndex,
-                                     Map<String, CompetencyCategory> categoryIndex,
-                                     Map<String, Skill> skillIndex,
-                                     SyncCounters counters) {
-        for (YamlCompetencyData.RoleData yamlRole : roles) {
-            Role role = resolveRole(yamlRole.name(), roleIndex);
-
-            for (YamlCompetencyData.RequirementData requirement : yamlRole.requirements()) {
-                CompetencyCategory category = resolveCategory(requirement.categoryName(), categoryIndex);
-                Skill skill = resolveSkill(requirement, category, skillIndex);
-
-                String requiredLevel = requirement.level().toUpperCase();
-                Optional<RoleSkillRequirement> existing =
-                        requirementRepository.findByRoleIdAndSkillId(role.id(), skill.id());
-
-                if (existing.isPresent()) {
-                    RoleSkillRequirement current = existing.get();
-                    if (requirementNeedsUpdate(current, requiredLevel)) {
-                        requirementRepository.save(new RoleSkillRequirement(
-                                current.id(), role.id(), skill.id(), requiredLevel));
-                        counters.requirementsUpdated++;
-                        log.info("Requirement updated: {} -> {} at {}", role.name(), skill.name(), requiredLevel);
-                    }
-                } else {
-                    requirementRepository.save(new RoleSkillRequirement(role.id(), skill.id(), requiredLevel));
-                    counters.requirementsAdded++;
-                    log.info("Requirement added: {} -> {} at {}", role.name(), skill.name(), requiredLevel);
-                }
-            }
+    /**
+     * Validates, plans and applies, then records the digest of the seed in seed_state. Holds the data_generation
+     * row lock for the rest of the transaction, so concurrent syncs are applied one after the other.
+     *
+     * @param skipIfUnchanged stop after validation when seed_state already has this seed and mode
+     */
+    private SyncResult sync(SyncMode mode, YamlCompetencyData data, SyncRun run, boolean skipIfUnchanged) {
+        if (mode == SyncMode.NONE) {
+            return emptyResult();
         }
-    }
-
-    private void processProgressions(List<YamlCompetencyData.ProgressionData> progressions,
-                                     Map<String, Role> roleIndex,
-                                     SyncCounters counters) {
-        for (YamlCompetencyData.ProgressionData progression : progressions) {
-            Role fromRole = resolveRole(progression.fromRoleName(), roleIndex);
-            Role toRole = resolveRole(progression.toRoleName(), roleIndex);
-
-            Optional<RoleProgression> existing =
-                    progressionRepository.findByFromRoleIdAndToRoleId(fromRole.id(), toRole.id());
-            if (existing.isEmpty()) {
-                progressionRepository.save(new RoleProgression(fromRole.id(), toRole.id()));
-                counters.progressionsAdded++;
-                log.info("Progression added: {} -> {}", fromRole.name(), toRole.name());
+        // Startup, reload and watcher syncs wait for each other and plan against committed data
+        dataGenerationRepository.lock();
+        PhaseWork start = run.mark();
+        validateYaml(data);
+        run.phaseCompleted(SyncPhase.VALIDATE, entityCount(data), run.since(start));
+
+        String digest = CompiledSeed.digest(data);
+        if (skipIfUnchanged) {
+            Optional<SeedState> state = seedStateRepository.find();
+            if (state.isPresent() && state.get().seedDigest().equals(digest)
+                    && state.get().syncMode().equals(mode.name())) {
+                log.info("Database was synced from this seed ({}) at {}; skipping sync",
+                        digest.substring(0, 12), state.get().syncedAt());
+                return emptyResult().withTimings(run.timings);
             }
         }
-    }
 
-    private boolean categoryNeedsUpdate(CompetencyCategory existing, YamlCompetencyData.CategoryData yamlCategory) {
-        return !existing.name().equals(yamlCategory.name())
-                || existing.displayOrder() != yamlCategory.displayOrder();
-    }
-
-    private boolean skillNeedsUpdate(Skill existing, YamlCompetencyData.SkillData yamlSkill) {
-        Map<String, String> levels = yamlSkill.levels();
-        return !existing.name().equals(yamlSkill.name())
-                || !Objects.equals(existing.basicDescription(), levels.get("basis"))
-                || !Objects.equals(existing.decentDescription(), levels.get("redelijk"))
-                || !Objects.equals(existing.goodDescription(), levels.get("goed"))
-                || !Objects.equals(existing.excellentDescription(), levels.get("uitstekend"));
-    }
+        start = run.mark();
+        SyncPlan plan = syncPlanner.plan(data, mode);
+        run.phaseCompleted(SyncPhase.PLAN, plan.changeCount(), run.since(start));
 
-    private boolean roleNeedsUpdate(Role existing, YamlCompetencyData.RoleData yamlRole) {
-        return !existing.name().equals(yamlRole.name())
-                || !Objects.equals(existing.description(), yamlRole.description());
+        SyncResult result = applyPlan(plan, run);
+        seedStateRepository.save(new SeedState(digest, mode.name(), Instant.now()));
+        return result;
     }
 
-    private boolean requirementNeedsUpdate(RoleSkillRequirement existing, String requiredLevel) {
-        return !existing.requiredLevel().equalsIgnoreCase(requiredLevel);
-    }
+    private Map<SyncPhase, PhaseWork> applyDeletes(SyncPlan plan, SyncRun run) {
+        Map<SyncPhase, PhaseWork> deletes = new EnumMap<>(SyncPhase.class);
 
-    private CompetencyCategory resolveCategory(String categoryName,
-                                               Map<String, CompetencyCategory> categoryIndex) {
-        String normalized = normalize(categoryName);
-        CompetencyCategory category = categoryIndex.get(normalized);
-        if (category != null) {
-            return category;
-        }
-        return categoryRepository.findByNameIgnoreCase(categoryName)
-                .orElseThrow(() -> {
-                    String message = "Category '" + categoryName + "' does not exist in database or YAML";
-                    log.error(message);
-                    return new RuntimeException(message);
-                });
-    }
-
-    private Skill resolveSkill(YamlCompetencyData.RequirementData requirement,
-                               CompetencyCategory category,
-                               Map<String, Skill> skillIndex) {
-        String key = skillKey(category.name(), requirement.skillName());
-        Skill skill = skillIndex.get(key);
-        if (skill != null) {
-            return skill;
+        PhaseWork start = run.mark();
+        for (SyncPlan.ProgressionChange change : plan.progressions().deletes()) {
+            progressionRepository.deleteById(change.progression().id());
         }
-
-        Optional<Skill> existing = skillRepository
-                .findByNameAndCategoryIdIgnoreCase(requirement.skillName(), category.id());
-        if (existing.isPresent()) {
-            skillIndex.put(key, existing.get());
-            return existing.get();
+        start = recordDeletes(deletes, SyncPhase.PROGRESSIONS, start, run);
+        requirementRepository.deleteAllById(plan.requirements().deletes().stream()
+                .map(change -> change.requirement().id())
+                .toList());
+        start = recordDeletes(deletes, SyncPhase.REQUIREMENTS, start, run);
+        for (SyncPlan.SkillChange change : plan.skills().deletes()) {
+            skillRepository.deleteById(change.skill().id());
         }
+        start = recordDeletes(deletes, SyncPhase.SKILLS, start, run);
+        for (Role role : plan.roles().deletes()) {
+            roleRepository.deleteById(role.id());
+        }
+        start = recordDeletes(deletes, SyncPhase.ROLES, start, run);
+        for (CompetencyCategory category : plan.categories().deletes()) {
+            categoryRepository.deleteById(category.id());
+        }
+        recordDeletes(deletes, SyncPhase.CATEGORIES, start, run);
 
-        String message = "Role requirement references skill '" + requirement.skillName()
-                + "' in category '" + requirement.categoryName()
-                + "' which does not exist in database or YAML";
-        log.error(message);
-        throw new RuntimeException(message);
+        if (plan.mode() == SyncMode.REPLACE) {
+            log.info("Deleted {} progressions", plan.progressions().deletes().size());
+            log.info("Deleted {} requirements", plan.requirements().deletes().size());
+            log.info("Deleted {} skills", plan.skills().deletes().size());
+            log.info("Deleted {} roles", plan.roles().deletes().size());
+            log.info("Deleted {} categories", plan.categories().deletes().size());
+        }
+        return deletes;
     }
 
-    private Role resolveRole(String roleName, Map<String, Role> roleIndex) {
-        String normalized = normalize(roleName);
-        Role role = roleIndex.get(normalized);
-        if (role != null) {
-            return role;
-        }
-        return roleRepository.findByNameIgnoreCase(roleName)
-                .orElseThrow(() -> {
-                    String message = "Role '" + roleName + "' does not exist in database or YAML";
-                    log.error(message);
-                    return new RuntimeException(message);
-                });
+    private PhaseWork recordDeletes(Map<SyncPhase, PhaseWork> deletes, SyncPhase phase, PhaseWork start, SyncRun run) {
+        deletes.put(phase, run.since(start));
+        return run.mark();
     }
 
-    private String skillKey(String categoryName, String skillName) {
-        return normalize(categoryName) + "::" + normalize(skillName);
-    }
+    /**
+     * Time and statement count, either as a point to measure from ({@link SyncRun#mark()}) or as the
+     * work done since such a point ({@link SyncRun#since}).
+     */
+    private record PhaseWork(long nanos, int statements) {
 
-    private void deleteAllEntities(SyncCounters counters) {
-        int progressionsDeleted = progressionRepository.deleteAll();
-        int requirementsDeleted = requirementRepository.deleteAll();
-        int skillsDeleted = skillRepository.deleteAll();
-        int rolesDeleted = roleRepository.deleteAll();
-        int categoriesDeleted = categoryRepository.deleteAll();
-
-        counters.progressionsDeleted = progressionsDeleted;
-        counters.requirementsDeleted = requirementsDeleted;
-        counters.skillsDeleted = skillsDeleted;
-        counters.rolesDeleted = rolesDeleted;
-        counters.categoriesDeleted = categoriesDeleted;
-
-        log.info("Deleted {} progressions", progressionsDeleted);
-        log.info("Deleted {} requirements", requirementsDeleted);
-        log.info("Deleted {} skills", skillsDeleted);
-        log.info("Deleted {} roles", rolesDeleted);
-        log.info("Deleted {} categories", categoriesDeleted);
+        PhaseWork plus(PhaseWork other) {
+            return new PhaseWork(nanos + other.nanos, statements + other.statements);
+        }
     }
 
-    private SyncResult emptyResult() {
-        return new SyncResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
-    }
+    /**
+     * Progress of one sync: counts the statements executed on the sync thread, records the
+     * competency.sync.phase timer and competency.sync.rows counter, collects the phase timings
+     * for the {@link SyncResult} and notifies the listener.
+     */
+    private final class SyncRun implements AutoCloseable {
+        private final SyncProgressListener listener;
+        private final StatementTally statements = StatementTally.open();
+        private final List<SyncPhaseTiming> timings = new ArrayList<>();
 
-    private static final class SyncCounters {
-        private int categoriesAdded;
-        private int categoriesUpdated;
-        private int skillsAdded;
-        private int skillsUpdated;
-        private int rolesAdded;
-        private int rolesUpdated;
-        private int requirementsAdded;
-        private int requirementsUpdated;
-        private int progressionsAdded;
-        private int progressionsUpdated;
-        private int categoriesDeleted;
-        private int skillsDeleted;
-        private int rolesDeleted;
-        private int requirementsDeleted;
-        private int progressionsDeleted;
-
-        private SyncResult toResult() {
-            return new SyncResult(
-                    categoriesAdded,
-                    categoriesUpdated,
-                    skillsAdded,
-                    skillsUpdated,
-                    rolesAdded,
-                    rolesUpdated,
-                    requirementsAdded,
-                    requirementsUpdated,
-                    progressionsAdded,
-                    progressionsUpdated,
-                    categoriesDeleted,
-                    skillsDeleted,
-                    rolesDeleted,
-                    requirementsDeleted,
-                    progressionsDeleted
-            );
+        SyncRun(SyncProgressListener listener) {
+            this.listener = listener;
         }
-    }
 
-    @SuppressWarnings("unchecked")
-    private List<YamlCompetencyData.CategoryData> parseCategories(List<Map<String, Object>> categoriesList) {
-        if (categoriesList == null) {
-            return List.of();
+        PhaseWork mark() {
+            return new PhaseWork(System.nanoTime(), statements.statements());
         }
 
-        List<YamlCompetencyData.CategoryData> categories = new ArrayList<>();
-        int displayOrder = 0;
-
-        for (Map<String, Object> categoryMap : categoriesList) {
-            String name = (String) categoryMap.get("name");
-            List<Map<String, Object>> skillsList = (List<Map<String, Object>>) categoryMap.get("skills");
-
-            List<YamlCompetencyData.SkillData> skills = new ArrayList<>();
-            if (skillsList != null) {
-                for (Map<String, Object> skillMap : skillsList) {
-                    String skillName = (String) skillMap.get("name");
-                    Map<String, String> levels = (Map<String, String>) skillMap.get("levels");
-
-                    skills.add(new YamlCompetencyData.SkillData(skillName, name, levels));
-                }
-            }
-
-            categories.add(new YamlCompetencyData.CategoryData(name, displayOrder++, skills));
+        PhaseWork since(PhaseWork mark) {
+            return new PhaseWork(System.nanoTime() - mark.nanos(), statements.statements() - mark.statements());
         }
 
-        return categories;
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<YamlCompetencyData.RoleData> parseRoles(List<Map<String, Object>> rolesList) {
-        if (rolesList == null) {
-            return List.of();
+        void phaseCompleted(SyncPhase phase, int rows, PhaseWork work) {
+            String tag = phase.name().toLowerCase();
+            Timer.builder("competency.sync.phase")
+                    .description("Time spent in one phase of a competency sync")
+                    .tag("phase", tag)
+                    .register(meterRegistry)
+                    .record(work.nanos(), TimeUnit.NANOSECONDS);
+            Counter.builder("competency.sync.rows")
+                    .description("Entities parsed or validated, changes planned, or rows written per sync phase")
+                    .tag("phase", tag)
+                    .register(meterRegistry)
+                    .increment(rows);
+            report(phase, rows, Duration.ofNanos(work.nanos()), work.statements());
         }
 
-        List<YamlCompetencyData.RoleData> roles = new ArrayList<>();
-
-        for (Map<String, Object> roleMap : rolesList) {
-            String name = (String) roleMap.get("name");
-            String description = (String) roleMap.get("description");
-            String roleFamily = (String) roleMap.get("roleFamily");
-            Integer seniorityOrder = (Integer) roleMap.get("seniorityOrder");
-            List<Map<String, Object>> requirementsList = (List<Map<String, Object>>) roleMap.get("requirements");
-
-            List<YamlCompetencyData.RequirementData> requirements = new ArrayList<>();
-            if (requirementsList != null) {
-                for (Map<String, Object> reqMap : requirementsList) {
-                    String skillName = (String) reqMap.get("skill");
-                    String categoryName = (String) reqMap.get("category");
-                    String level = (String) reqMap.get("level");
-
-                    requirements.add(new YamlCompetencyData.RequirementData(skillName, categoryName, level));
-                }
-            }
-
-            roles.add(new YamlCompetencyData.RoleData(name, description, roleFamily, seniorityOrder, requirements));
+        /**
+         * A phase with nothing to do; reported without recording metrics.
+         */
+        void phaseSkipped(SyncPhase phase) {
+            report(phase, 0, Duration.ZERO, 0);
         }
 
-        return roles;
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<YamlCompetencyData.ProgressionData> parseProgressions(List<Map<String, Object>> progressionsList) {
-        if (progressionsList == null) {
-            return List.of();
+        private void report(SyncPhase phase, int rows, Duration elapsed, int statementCount) {
+            timings.add(SyncPhaseTiming.of(phase, rows, elapsed, statementCount));
+            listener.phaseCompleted(phase, rows, elapsed);
         }
 
-        List<YamlCompetencyData.ProgressionData> progressions = new ArrayList<>();
-
-        for (Map<String, Object> progressionMap : progressionsList) {
-            String from = (String) progressionMap.get("from");
-            String to = (String) progressionMap.get("to");
-
-            progressions.add(new YamlCompetencyData.ProgressionData(from, to));
+        @Override
+        public void close() {
+            statements.close();
         }
-
-        return progressions;
     }
 
-    /**
-     * Discovers YAML resources from the classpath (JAR-compatible).
-     * Reads an index.txt file in the directory that lists all YAML files.
-     * This approach works in both development (file system) and production (JAR).
-     *
-     * @param directoryPath directory path relative to classpath resources (e.g., "seed/categories")
-     * @return list of resource paths that exist on the classpath
-     */
-    private List<String> discoverYamlResources(String directoryPath) {
-        String indexPath = directoryPath + "/index.txt";
-        List<String> foundResources = new ArrayList<>();
-
-        try (InputStream indexStream = getClass().getClassLoader().getResourceAsStream(indexPath)) {
-            if (indexStream == null) {
-                log.warn("Index file not found: {}", indexPath);
-                return foundResources;
-            }
-
-            // Read index file line by line
-            try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                    new java.io.InputStreamReader(indexStream, UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    line = line.trim();
-                    // Skip empty lines and comments
-                    if (line.isEmpty() || line.startsWith("#")) {
-                        continue;
-                    }
-
-                    String resourcePath = directoryPath + "/" + line;
-
-                    // Verify the resource exists
-                    if (getClass().getClassLoader().getResource(resourcePath) != null) {
-                        foundResources.add(resourcePath);
-                        log.debug("Found resource: {}", resourcePath);
-                    } else {
-                        log.warn("Resource listed in index but not found: {}", resourcePath);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            log.error("Failed to read index file: {}", indexPath, e);
+    private static int entityCount(YamlCompetencyData data) {
+        int count = data.categories().size() + data.roles().size() + data.progressions().size();
+        for (YamlCompetencyData.CategoryData category : data.categories()) {
+            count += category.skills().size();
         }
-
-        return foundResources;
-    }
-
-
-    /**
-     * Parses a single YAML resource from the classpath (JAR-compatible).
-     * T006: Filename-to-entity mapping helper method
-     * Handles both single entity files (category/role files) and full competencies files (progressions)
-     *
-     * @param resourcePath classpath resource path (e.g., "seed/categories/programming.yaml")
-     * @return parsed YamlCompetencyData
-     * @throws RuntimeException if parsing fails
-     */
-    @SuppressWarnings("unchecked")
-    private YamlCompetencyData parseYamlResource(String resourcePath) {
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
-            if (inputStream == null) {
-                throw new RuntimeException("Resource not found: " + resourcePath);
-            }
-
-            Yaml yaml = new Yaml();
-            Object rawData = yaml.load(inputStream);
-
-            String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
-
-            // Handle single entity files (categories/roles) vs progressions list
-            if (rawData instanceof Map) {
-                Map<String, Object> map = (Map<String, Object>) rawData;
-
-                // Check if this is a category file (has 'skills' key)
-                if (map.containsKey("skills")) {
-                    // Single category entity
-                    List<YamlCompetencyData.CategoryData> categories = parseCategories(List.of(map));
-                    return new YamlCompetencyData(categories, List.of(), List.of());
-                }
-                // Check if this is a role file (has 'requirements' key)
-                else if (map.containsKey("requirements") || map.containsKey("name")) {
-                    // Single role entity
-                    List<YamlCompetencyData.RoleData> roles = parseRoles(List.of(map));
-                    return new YamlCompetencyData(List.of(), roles, List.of());
-                }
-            }
-            // Handle progressions list (array of progression objects)
-            else if (rawData instanceof List) {
-                List<Map<String, Object>> list = (List<Map<String, Object>>) rawData;
-                List<YamlCompetencyData.ProgressionData> progressions = parseProgressions(list);
-                return new YamlCompetencyData(List.of(), List.of(), progressions);
-            }
-
-            throw new RuntimeException("Unrecognized YAML structure in " + filename);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to parse " + resourcePath + ": " + e.getMessage(), e);
-        } catch (Exception e) {
-            throw new RuntimeException("YAML syntax error in " + resourcePath + ": " + e.getMessage(), e);
+        for (YamlCompetencyData.RoleData role : data.roles()) {
+            count += role.requirements().size();
         }
+        return count;
     }
 
-    /**
-     * Detects duplicate category names across multiple files.
-     * T007: Duplicate detection for categories
-     *
-     * @param categories list of all category data from all files
-     * @param fileMap    map of category name to source filename
-     * @throws IllegalStateException if duplicates found
-     */
-    private void detectDuplicateCategories(List<YamlCompetencyData.CategoryData> categories,
-                                           Map<String, String> fileMap) {
-        Map<String, String> seen = new HashMap<>();
-
-        for (YamlCompetencyData.CategoryData category : categories) {
-            String name = category.name();
-
-            if (seen.containsKey(name)) {
-                String error = String.format(
-                        "Duplicate category '%s' found in files: %s and %s",
-                        name, seen.get(name), fileMap.get(name)
-                );
-                log.error(error);
-                throw new IllegalStateException(error);
-            }
-
-            seen.put(name, fileMap.get(name));
+    private Integer resolvePlanned(Map<String, Integer> insertedIds, String key, String entity, String name) {
+        Integer id = insertedIds.get(key);
+        if (id == null) {
+            throw new IllegalStateException("Sync plan references " + entity + " '" + name + "' which was not inserted");
         }
+        return id;
     }
 
-    /**
-     * Detects duplicate role names across multiple files.
-     * T008: Duplicate detection for roles
-     *
-     * @param roles    list of all role data from all files
-     * @param fileMap  map of role name to source filename
-     * @throws IllegalStateException if duplicates found
-     */
-    private void detectDuplicateRoles(List<YamlCompetencyData.RoleData> roles,
-                                      Map<String, String> fileMap) {
-        Map<String, String> seen = new HashMap<>();
-
-        for (YamlCompetencyData.RoleData role : roles) {
-            String name = role.name();
-
-            if (seen.containsKey(name)) {
-                String error = String.format(
-                        "Duplicate role '%s' found in files: %s and %s",
-                        name, seen.get(name), fileMap.get(name)
-                );
-                log.error(error);
-                throw new IllegalStateException(error);
-            }
-
-            seen.put(name, fileMap.get(name));
-        }
+    private SyncResult emptyResult() {
+        return new SyncResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
     }
 }
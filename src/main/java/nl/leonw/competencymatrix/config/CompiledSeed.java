@@ -0,0 +1,172 @@
+package nl.leonw.competencymatrix.config;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Binary form of the bundled seed, produced at build time by {@code SeedCompiler}.
+ * Reading it at startup replaces YAML parsing, index.txt discovery and per-file resource lookups.
+ */
+public final class CompiledSeed {
+
+    /**
+     * Classpath location of the compiled seed inside the application jar.
+     */
+    public static final String RESOURCE = "seed/compiled-seed.bin";
+
+    private static final int MAGIC = 0x434D5344; // "CMSD"
+    private static final int FORMAT_VERSION = 1;
+
+    private CompiledSeed() {
+    }
+
+    public static void write(YamlCompetencyData data, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(data.categories().size());
+        for (YamlCompetencyData.CategoryData category : data.categories()) {
+            writeString(out, category.name());
+            out.writeInt(category.displayOrder());
+            out.writeInt(category.skills().size());
+            for (YamlCompetencyData.SkillData skill : category.skills()) {
+                writeString(out, skill.name());
+                out.writeInt(skill.levels().size());
+                for (Map.Entry<String, String> level : skill.levels().entrySet()) {
+                    writeString(out, level.getKey());
+                    writeString(out, level.getValue());
+                }
+            }
+        }
+
+        out.writeInt(data.roles().size());
+        for (YamlCompetencyData.RoleData role : data.roles()) {
+            writeString(out, role.name());
+            writeString(out, role.description());
+            writeString(out, role.roleFamily());
+            out.writeBoolean(role.seniorityOrder() != null);
+            if (role.seniorityOrder() != null) {
+                out.writeInt(role.seniorityOrder());
+            }
+            out.writeInt(role.requirements().size());
+            for (YamlCompetencyData.RequirementData requirement : role.requirements()) {
+                writeString(out, requirement.skillName());
+                writeString(out, requirement.categoryName());
+                writeString(out, requirement.level());
+            }
+        }
+
+        out.writeInt(data.progressions().size());
+        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
+            writeString(out, progression.fromRoleName());
+            writeString(out, progression.toRoleName());
+        }
+        out.flush();
+    }
+
+    /**
+     * SHA-256 of the compiled form, as hex. Equal seeds have equal digests, wherever they were loaded from.
+     */
+    public static String digest(YamlCompetencyData data) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            write(data, new DigestOutputStream(OutputStream.nullOutputStream(), sha256));
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static YamlCompetencyData read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compiled seed resource");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported compiled seed format version " + version
+                    + " (expected " + FORMAT_VERSION + ")");
+        }
+
+        int categoryCount = in.readInt();
+        List<YamlCompetencyData.CategoryData> categories = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            String categoryName = readString(in);
+            int displayOrder = in.readInt();
+            int skillCount = in.readInt();
+            List<YamlCompetencyData.SkillData> skills = new ArrayList<>(skillCount);
+            for (int j = 0; j < skillCount; j++) {
+                String skillName = readString(in);
+                int levelCount = in.readInt();
+                Map<String, String> levels = new LinkedHashMap<>();
+                for (int k = 0; k < levelCount; k++) {
+                    levels.put(readString(in), readString(in));
+                }
+                skills.add(new YamlCompetencyData.SkillData(skillName, categoryName, levels));
+            }
+            categories.add(new YamlCompetencyData.CategoryData(categoryName, displayOrder, skills));
+        }
+
+        int roleCount = in.readInt();
+        List<YamlCompetencyData.RoleData> roles = new ArrayList<>(roleCount);
+        for (int i = 0; i < roleCount; i++) {
+            String name = readString(in);
+            String description = readString(in);
+            String roleFamily = readString(in);
+            Integer seniorityOrder = in.readBoolean() ? in.readInt() : null;
+            int requirementCount = in.readInt();
+            List<YamlCompetencyData.RequirementData> requirements = new ArrayList<>(requirementCount);
+            for (int j = 0; j < requirementCount; j++) {
+                requirements.add(new YamlCompetencyData.RequirementData(readString(in), readString(in), readString(in)));
+            }
+            roles.add(new YamlCompetencyData.RoleData(name, description, roleFamily, seniorityOrder, requirements));
+        }
+
+        int progressionCount = in.readInt();
+        List<YamlCompetencyData.ProgressionData> progressions = new ArrayList<>(progressionCount);
+        for (int i = 0; i < progressionCount; i++) {
+            progressions.add(new YamlCompetencyData.ProgressionData(readString(in), readString(in)));
+        }
+
+        return new YamlCompetencyData(categories, roles, progressions);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
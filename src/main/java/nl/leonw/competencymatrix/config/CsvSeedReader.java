@@ -0,0 +1,344 @@
+package nl.leonw.competencymatrix.config;
+
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static nl.leonw.competencymatrix.model.NameNormalizer.normalize;
+
+/**
+ * Reads the requirement matrix from a wide CSV (RFC 4180) and lays it over seed data: a Skill and a Category
+ * column, in either order, then one column per role with the required level of each skill. This is the layout
+ * of {@link nl.leonw.competencymatrix.service.MatrixCsvWriter}, so an export can be edited in a spreadsheet and
+ * read back.
+ *
+ * <p>A level is a level name (basis, redelijk, goed, uitstekend; any case) or its code 1-4; an empty cell means
+ * the role does not require the skill. The CSV decides exactly the cells it has: requirements of skills or roles
+ * without a row or column keep their seed value. Skills, categories and roles that are not in the seed are
+ * added with empty descriptions; such roles are put in the Other family. Rows are read one at a time, only
+ * the seed and the resulting requirements are held.</p>
+ */
+public final class CsvSeedReader {
+
+    private static final int FIRST_ROLE_COLUMN = 2;
+    // Family and seniority are required; roles that only the CSV has get these until the seed defines them
+    private static final String NEW_ROLE_FAMILY = "Other";
+    private static final Map<String, String> EMPTY_LEVELS = emptyLevels();
+
+    private final Map<String, CategoryBuilder> categories = new LinkedHashMap<>();
+    private final Map<String, RoleBuilder> roles = new LinkedHashMap<>();
+    private final List<YamlCompetencyData.ProgressionData> progressions;
+    private int nextDisplayOrder;
+
+    private CsvSeedReader(YamlCompetencyData seed) {
+        for (YamlCompetencyData.CategoryData category : seed.categories()) {
+            CategoryBuilder builder = categories.computeIfAbsent(normalize(category.name()),
+                    key -> new CategoryBuilder(category.name(), category.displayOrder()));
+            for (YamlCompetencyData.SkillData skill : category.skills()) {
+                builder.skills.put(normalize(skill.name()), skill);
+            }
+            nextDisplayOrder = Math.max(nextDisplayOrder, category.displayOrder() + 1);
+        }
+        for (YamlCompetencyData.RoleData role : seed.roles()) {
+            RoleBuilder builder = new RoleBuilder(role);
+            for (YamlCompetencyData.RequirementData requirement : role.requirements()) {
+                builder.requirements.put(SyncPlanner.skillKey(requirement.categoryName(), requirement.skillName()),
+                        requirement);
+            }
+            roles.put(normalize(role.name()), builder);
+        }
+        this.progressions = seed.progressions();
+    }
+
+    /**
+     * Reads a UTF-8 CSV file, see {@link #overlay(YamlCompetencyData, Reader)}.
+     */
+    public static YamlCompetencyData overlay(YamlCompetencyData seed, Path csv) {
+        try (Reader reader = Files.newBufferedReader(csv, UTF_8)) {
+            return overlay(seed, reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read requirements CSV: " + csv, e);
+        }
+    }
+
+    /**
+     * Reads a UTF-8 CSV stream, see {@link #overlay(YamlCompetencyData, Reader)}.
+     */
+    public static YamlCompetencyData overlay(YamlCompetencyData seed, InputStream csv) {
+        return overlay(seed, new InputStreamReader(csv, UTF_8));
+    }
+
+    /**
+     * @param seed parsed seed the CSV is laid over; not modified
+     * @param csv  CSV with a header row; a leading byte order mark is skipped
+     * @return the seed with the skills, roles and requirements of the CSV
+     * @throws RuntimeException if the CSV cannot be read or has an invalid header, row or level
+     */
+    public static YamlCompetencyData overlay(YamlCompetencyData seed, Reader csv) {
+        CsvSeedReader reader = new CsvSeedReader(seed);
+        try {
+            reader.read(new RecordReader(csv));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read requirements CSV: " + e.getMessage(), e);
+        }
+        return reader.build();
+    }
+
+    private void read(RecordReader records) throws IOException {
+        List<String> header = records.next();
+        if (header == null) {
+            throw new RuntimeException("Invalid CSV: missing header row");
+        }
+        if (!header.isEmpty() && header.getFirst().startsWith("\uFEFF")) {
+            header.set(0, header.getFirst().substring(1));
+        }
+        int skillColumn = headerColumn(header, "skill");
+        int categoryColumn = headerColumn(header, "category");
+        if (skillColumn < 0 || categoryColumn < 0) {
+            throw new RuntimeException("Invalid CSV: header must start with Skill and Category columns");
+        }
+
+        List<RoleBuilder> roleColumns = new ArrayList<>();
+        Map<String, String> seen = new HashMap<>();
+        for (int column = FIRST_ROLE_COLUMN; column < header.size(); column++) {
+            String name = unescape(header.get(column)).trim();
+            if (name.isEmpty()) {
+                throw new RuntimeException("Invalid CSV: role name missing in column " + (column + 1));
+            }
+            String previous = seen.put(normalize(name), name);
+            if (previous != null) {
+                throw new RuntimeException("Invalid CSV: role '" + name + "' has more than one column");
+            }
+            roleColumns.add(roles.computeIfAbsent(normalize(name), key -> new RoleBuilder(name)));
+        }
+
+        List<String> row;
+        while ((row = records.next()) != null) {
+            int line = records.line();
+            if (row.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            if (row.size() > header.size()) {
+                throw new RuntimeException("Invalid CSV: line " + line + " has " + row.size()
+                        + " columns, the header has " + header.size());
+            }
+            String categoryName = unescape(cell(row, categoryColumn)).trim();
+            String skillName = unescape(cell(row, skillColumn)).trim();
+            if (categoryName.isEmpty() || skillName.isEmpty()) {
+                throw new RuntimeException("Invalid CSV: line " + line + " is missing the skill or category name");
+            }
+            YamlCompetencyData.SkillData skill = skill(categoryName, skillName);
+            String skillKey = SyncPlanner.skillKey(skill.categoryName(), skill.name());
+
+            for (int i = 0; i < roleColumns.size(); i++) {
+                RoleBuilder role = roleColumns.get(i);
+                String value = cell(row, FIRST_ROLE_COLUMN + i).trim();
+                if (value.isEmpty()) {
+                    role.requirements.remove(skillKey);
+                    continue;
+                }
+                ProficiencyLevel level = level(value, line, role.name);
+                YamlCompetencyData.RequirementData current = role.requirements.get(skillKey);
+                if (current == null || !level.name().equalsIgnoreCase(current.level().trim())) {
+                    role.requirements.put(skillKey, new YamlCompetencyData.RequirementData(
+                            skill.name(), skill.categoryName(), level.name().toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+    }
+
+    private YamlCompetencyData build() {
+        List<YamlCompetencyData.CategoryData> categoryData = new ArrayList<>();
+        for (CategoryBuilder category : categories.values()) {
+            categoryData.add(new YamlCompetencyData.CategoryData(category.name, category.displayOrder,
+                    List.copyOf(category.skills.values())));
+        }
+        List<YamlCompetencyData.RoleData> roleData = new ArrayList<>();
+        for (RoleBuilder role : roles.values()) {
+            roleData.add(new YamlCompetencyData.RoleData(role.name, role.description, role.roleFamily,
+                    role.seniorityOrder, List.copyOf(role.requirements.values())));
+        }
+        return new YamlCompetencyData(categoryData, roleData, progressions);
+    }
+
+    /**
+     * Skill of the seed, or a new one without descriptions. Names of the seed win over the spelling in the CSV.
+     */
+    private YamlCompetencyData.SkillData skill(String categoryName, String skillName) {
+        CategoryBuilder category = categories.computeIfAbsent(normalize(categoryName),
+                key -> new CategoryBuilder(categoryName, nextDisplayOrder++));
+        return category.skills.computeIfAbsent(normalize(skillName),
+                key -> new YamlCompetencyData.SkillData(skillName, category.name, EMPTY_LEVELS));
+    }
+
+    private static ProficiencyLevel level(String value, int line, String roleName) {
+        if (value.length() == 1 && Character.isDigit(value.charAt(0))) {
+            int code = value.charAt(0) - '0';
+            if (code >= 1 && code <= ProficiencyLevel.values().length) {
+                return ProficiencyLevel.fromOrdinalValue(code);
+            }
+        } else {
+            try {
+                return ProficiencyLevel.fromString(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                // reported below
+            }
+        }
+        throw new RuntimeException("Invalid CSV: line " + line + ", role '" + roleName
+                + "' has unknown level '" + value + "' (use basis, redelijk, goed, uitstekend or 1-4)");
+    }
+
+    private static int headerColumn(List<String> header, String name) {
+        for (int column = 0; column < Math.min(FIRST_ROLE_COLUMN, header.size()); column++) {
+            if (header.get(column).trim().equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    private static String cell(List<String> row, int column) {
+        // Spreadsheets drop empty trailing cells
+        return column < row.size() ? row.get(column) : "";
+    }
+
+    /**
+     * Removes the apostrophe {@link nl.leonw.competencymatrix.service.MatrixCsvWriter} puts before values a
+     * spreadsheet would evaluate as a formula.
+     */
+    static String unescape(String value) {
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@\t\r".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    // In level order: CompiledSeed writes the levels in iteration order, so Map.copyOf would change the digest per JVM
+    private static Map<String, String> emptyLevels() {
+        Map<String, String> levels = new LinkedHashMap<>();
+        for (ProficiencyLevel level : ProficiencyLevel.values()) {
+            levels.put(level.name().toLowerCase(Locale.ROOT), "");
+        }
+        return Collections.unmodifiableMap(levels);
+    }
+
+    private static final class CategoryBuilder {
+        private final String name;
+        private final int displayOrder;
+        private final Map<String, YamlCompetencyData.SkillData> skills = new LinkedHashMap<>();
+
+        CategoryBuilder(String name, int displayOrder) {
+            this.name = name;
+            this.displayOrder = displayOrder;
+        }
+    }
+
+    private static final class RoleBuilder {
+        private final String name;
+        private final String description;
+        private final String roleFamily;
+        private final Integer seniorityOrder;
+        // Keyed by SyncPlanner.skillKey, so a later cell for the same skill replaces the earlier one
+        private final Map<String, YamlCompetencyData.RequirementData> requirements = new LinkedHashMap<>();
+
+        RoleBuilder(YamlCompetencyData.RoleData role) {
+            this.name = role.name();
+            this.description = role.description();
+            this.roleFamily = role.roleFamily();
+            this.seniorityOrder = role.seniorityOrder();
+        }
+
+        RoleBuilder(String name) {
+            this.name = name;
+            this.description = "";
+            this.roleFamily = NEW_ROLE_FAMILY;
+            this.seniorityOrder = 1;
+        }
+    }
+
+    /**
+     * Splits a character stream into RFC 4180 records: fields separated by commas, records by CRLF or LF,
+     * double quotes around fields with separators and doubled quotes inside them.
+     */
+    static final class RecordReader {
+        private final Reader in;
+        private int line;
+        private int nextLine = 1;
+
+        RecordReader(Reader in) {
+            this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        }
+
+        /**
+         * Line the last record started on.
+         */
+        int line() {
+            return line;
+        }
+
+        /**
+         * @return the fields of the next record, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            line = nextLine;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        throw new IOException("unterminated quoted field starting on line " + line);
+                    }
+                    if (c == '"') {
+                        c = in.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        nextLine++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c < 0) {
+                    fields.add(field.toString());
+                    nextLine++;
+                    return fields;
+                } else if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                    fields.add(field.toString());
+                    nextLine++;
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+        }
+    }
+}
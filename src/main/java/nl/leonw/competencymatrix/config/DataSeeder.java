@@ -1,26 +1,144 @@
 package nl.leonw.competencymatrix.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vertx.http.HttpServerStart;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
 import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.service.CompetencyModel;
+import nl.leonw.competencymatrix.service.CompetencyModelLoaded;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the configured sync at startup. With competency.sync.background (the default) the sync runs on
+ * its own thread after boot, so the HTTP port and liveness come up without waiting for it;
+ * {@link CompetencyDataReadinessCheck} keeps readiness DOWN until the first sync and the in-memory
+ * {@link CompetencyModel} are done. A failed background sync is retried with exponential backoff
+ * (competency.sync.retry.delay up to competency.sync.retry.max-delay), and any later model load, e.g. after
+ * a reload, also makes the instance ready. Otherwise the sync runs inside the {@link StartupEvent} and a
+ * failure aborts startup. The sync is skipped when the database already holds the current seed
+ * (see {@link CompetencySyncService#syncAtStartup()}).
+ *
+ * <p>Reports competency.startup.listening (JVM start until the HTTP server listens) and
+ * competency.startup.ready (JVM start until the first sync completed).</p>
+ */
 @ApplicationScoped
 public class DataSeeder {
 
     private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
 
+    /**
+     * Progress of the startup sync, as reported by the readiness check.
+     */
+    public enum State { SYNCING, READY, FAILED }
+
     @Inject
     CompetencySyncService competencySyncService;
 
+    @Inject
+    CompetencyModel competencyModel;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "competency.sync.background", defaultValue = "true")
+    boolean background;
+
+    @ConfigProperty(name = "competency.sync.retry.delay", defaultValue = "1s")
+    Duration retryDelay;
+
+    @ConfigProperty(name = "competency.sync.retry.max-delay", defaultValue = "1m")
+    Duration maxRetryDelay;
+
+    private volatile State state = State.SYNCING;
+    private volatile Throwable failure;
+
     void onStart(@Observes StartupEvent event) {
-        try {
-            competencySyncService.syncFromConfiguration();
-        } catch (Exception e) {
-            log.error("Failed to synchronize competencies", e);
-            throw new RuntimeException("Competency synchronization failed", e);
+        if (!background) {
+            try {
+                seed();
+            } catch (Exception e) {
+                log.error("Failed to synchronize competencies", e);
+                throw new RuntimeException("Competency synchronization failed", e);
+            }
+            return;
+        }
+        Thread.ofPlatform().name("startup-sync").daemon().start(this::seedWithRetry);
+    }
+
+    /**
+     * Runs the startup sync until it succeeds or the model was loaded otherwise; readiness is DOWN (FAILED)
+     * between attempts.
+     */
+    void seedWithRetry() {
+        Duration delay = retryDelay;
+        while (state != State.READY) {
+            try {
+                seed();
+                return;
+            } catch (Exception e) {
+                failure = e;
+                state = State.FAILED;
+                log.error("Failed to synchronize competencies; readiness stays DOWN, retrying in {} ms",
+                        delay.toMillis(), e);
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Duration doubled = delay.multipliedBy(2);
+            delay = doubled.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : doubled;
         }
     }
+
+    void onModelLoaded(@Observes CompetencyModelLoaded event) {
+        if (state == State.FAILED) {
+            // A reload, the seed watcher or another instance brought the data in after all
+            state = State.READY;
+            failure = null;
+            log.info("Competency model loaded after a failed startup sync; readiness is UP");
+        }
+    }
+
+    void onListening(@ObservesAsync HttpServerStart event) {
+        recordSinceJvmStart("competency.startup.listening", "Time from JVM start until the HTTP server listens");
+        log.info("HTTP server listening {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Why the startup sync failed, or null.
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    private void seed() {
+        competencySyncService.syncAtStartup();
+        competencyModel.reload();
+        state = State.READY;
+        failure = null;
+        recordSinceJvmStart("competency.startup.ready", "Time from JVM start until the first sync completed");
+    }
+
+    private void recordSinceJvmStart(String name, String description) {
+        double uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder(name, () -> uptime, TimeUnit.MILLISECONDS)
+                .description(description)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,216 @@
+package nl.leonw.competencymatrix.config;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Hot reload for an external seed directory (competency.seed.directory).
+ * Watches the directory and its categories/ and roles/ subdirectories; after a quiet period
+ * (competency.seed.watch.debounce) only the changed files are re-parsed, merged with the cached
+ * parse results of the other files and synchronized in the configured sync mode.
+ * Because the sync applies only the delta, unchanged entities are not touched.
+ *
+ * <p>A change with a file that fails to parse or validate, progressions.yaml included, is logged and
+ * not applied; the database keeps the last good state until the file is fixed.</p>
+ */
+@ApplicationScoped
+public class SeedDirectoryWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedDirectoryWatcher.class);
+
+    @Inject
+    CompetencySyncService competencySyncService;
+
+    @ConfigProperty(name = "competency.seed.directory")
+    Optional<Path> seedDirectory;
+
+    @ConfigProperty(name = "competency.seed.watch", defaultValue = "true")
+    boolean watchEnabled;
+
+    @ConfigProperty(name = "competency.seed.watch.debounce", defaultValue = "250ms")
+    Duration debounce;
+
+    private Path root;
+    private SeedLoader loader;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    // Only accessed from the watcher thread after start()
+    private Map<String, YamlCompetencyData> parsedFiles = new LinkedHashMap<>();
+
+    void onStart(@Observes StartupEvent event) {
+        if (seedDirectory.isEmpty() || !watchEnabled) {
+            return;
+        }
+        try {
+            start(seedDirectory.get());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch seed directory: " + seedDirectory.get(), e);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close seed directory watcher: {}", e.getMessage());
+        }
+        watcherThread.interrupt();
+    }
+
+    private void start(Path directory) throws IOException {
+        root = directory.toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Not a directory: " + root);
+        }
+        // Strict: a broken progressions.yaml must not be applied as "no progressions" in replace mode
+        loader = new SeedLoader(root).strict();
+        parsedFiles = parseAll();
+
+        watchService = root.getFileSystem().newWatchService();
+        register(root);
+        register(root.resolve(SeedLoader.CATEGORIES_DIR));
+        register(root.resolve(SeedLoader.ROLES_DIR));
+
+        watcherThread = Thread.ofPlatform()
+                .name("seed-directory-watcher")
+                .daemon()
+                .start(this::watchLoop);
+        log.info("Watching seed directory {} ({} files, debounce {} ms)", root, parsedFiles.size(), debounce.toMillis());
+    }
+
+    private void register(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        }
+    }
+
+    private void watchLoop() {
+        Set<String> changed = new LinkedHashSet<>();
+        boolean overflow = false;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // Block until the first event; then keep collecting until the directory is quiet
+                WatchKey key = changed.isEmpty() && !overflow
+                        ? watchService.take()
+                        : watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    applyChanges(changed, overflow);
+                    changed.clear();
+                    overflow = false;
+                    continue;
+                }
+
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        overflow = true;
+                        continue;
+                    }
+                    Path path = directory.resolve((Path) event.context());
+                    if (event.kind() == ENTRY_CREATE && Files.isDirectory(path) && directory.equals(root)) {
+                        // categories/ or roles/ created after startup
+                        register(path);
+                        overflow = true;
+                        continue;
+                    }
+                    changed.add(relativize(path));
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Seed directory watcher stopped");
+        } catch (IOException e) {
+            log.error("Seed directory watcher failed", e);
+        }
+    }
+
+    /**
+     * Re-parses the changed files and synchronizes the merged result.
+     *
+     * @param changed  changed paths relative to the seed root
+     * @param reparseAll true when events were lost and every file has to be parsed again
+     */
+    void applyChanges(Set<String> changed, boolean reparseAll) {
+        long start = System.nanoTime();
+        try {
+            Map<String, YamlCompetencyData> next = new LinkedHashMap<>();
+            int parsed = 0;
+            // Discovery only reads index.txt or lists the directories, so added and removed files are picked up cheaply
+            for (String file : loader.discoverFiles()) {
+                YamlCompetencyData data = parsedFiles.get(file);
+                if (reparseAll || data == null || changed.contains(file)) {
+                    data = loader.parseFileOrNull(file);
+                    parsed++;
+                }
+                if (data != null) {
+                    next.put(file, data);
+                }
+            }
+
+            if (next.equals(parsedFiles)) {
+                log.debug("Seed directory change did not affect parsed data: {}", changed);
+                return;
+            }
+
+            SyncResult result = competencySyncService.syncData(loader.assemble(next));
+            parsedFiles = next;
+            log.info("Seed directory change applied ({} of {} files parsed) in {} ms: {}",
+                    parsed, next.size(), (System.nanoTime() - start) / 1_000_000, result.formatSummary());
+        } catch (RuntimeException e) {
+            log.error("Failed to apply seed directory change {}; keeping current data", changed, e);
+        }
+    }
+
+    private Map<String, YamlCompetencyData> parseAll() {
+        Map<String, YamlCompetencyData> files = new LinkedHashMap<>();
+        List<String> discovered = loader.discoverFiles();
+        for (String file : discovered) {
+            try {
+                YamlCompetencyData data = loader.parseFileOrNull(file);
+                if (data != null) {
+                    files.put(file, data);
+                }
+            } catch (RuntimeException e) {
+                // Not cached, so the next change parses it again
+                log.warn("Seed file {} not parsed: {}", file, e.getMessage());
+            }
+        }
+        return files;
+    }
+
+    private String relativize(Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+}
@@ -0,0 +1,529 @@
+package nl.leonw.competencymatrix.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads the split seed layout (index.txt, category files, role files, progressions.yaml)
+ * into {@link YamlCompetencyData}, either from the classpath or from an external directory.
+ * Plain class without CDI dependencies so the same code runs at startup, at build time
+ * (see {@code SeedCompiler}) and for hot reloads (see {@link SeedDirectoryWatcher}).
+ */
+public class SeedLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedLoader.class);
+
+    static final String CATEGORIES_DIR = "categories";
+    static final String ROLES_DIR = "roles";
+    static final String PROGRESSIONS_FILE = "progressions.yaml";
+    static final String INDEX_FILE = "index.txt";
+
+    private final SeedSource source;
+    private final boolean strict;
+
+    /**
+     * Loader for a seed layout on the classpath.
+     *
+     * @param classLoader class loader to resolve resources with
+     * @param seedRoot    classpath directory holding the seed layout (e.g., "seed")
+     */
+    public SeedLoader(ClassLoader classLoader, String seedRoot) {
+        this(new ClasspathSource(classLoader, seedRoot), false);
+    }
+
+    /**
+     * Loader for a seed layout in a filesystem directory. Directories without index.txt
+     * use all .yaml files in alphabetical order.
+     *
+     * @param seedDirectory directory holding the seed layout
+     */
+    public SeedLoader(Path seedDirectory) {
+        this(new DirectorySource(seedDirectory), false);
+    }
+
+    private SeedLoader(SeedSource source, boolean strict) {
+        this.source = source;
+        this.strict = strict;
+    }
+
+    /**
+     * Loader for the same seed that fails on an invalid progressions.yaml instead of loading without
+     * progressions. For callers that must not apply a partial seed: the build ({@code SeedCompiler}) and
+     * hot reloads ({@link SeedDirectoryWatcher}). A missing progressions.yaml is still allowed.
+     *
+     * @return strict loader over the same seed source
+     */
+    public SeedLoader strict() {
+        return new SeedLoader(source, true);
+    }
+
+    /**
+     * Parses a combined competencies YAML document (categories, roles and progressions keys).
+     *
+     * @param inputStream YAML file input stream
+     * @return Parsed competency data
+     */
+    @SuppressWarnings("unchecked")
+    public YamlCompetencyData parse(InputStream inputStream) {
+        Yaml yaml = new Yaml();
+        Map<String, Object> data = yaml.load(inputStream);
+
+        List<YamlCompetencyData.CategoryData> categories = parseCategories(
+                (List<Map<String, Object>>) data.get("categories"));
+        List<YamlCompetencyData.RoleData> roles = parseRoles(
+                (List<Map<String, Object>>) data.get("roles"));
+        List<YamlCompetencyData.ProgressionData> progressions = parseProgressions(
+                (List<Map<String, Object>>) data.get("progressions"));
+
+        return new YamlCompetencyData(categories, roles, progressions);
+    }
+
+    /**
+     * Load competency data from multiple YAML files (JAR-compatible).
+     * T017-T022: Multi-file loading with error reporting and logging
+     *
+     * @return merged competency data from all files
+     */
+    public YamlCompetencyData load() {
+        log.info("Loading competency data from split YAML files");
+
+        Map<String, YamlCompetencyData> files = new LinkedHashMap<>();
+        for (String file : discoverFiles()) {
+            YamlCompetencyData data = parseFileOrNull(file);
+            if (data != null) {
+                files.put(file, data);
+            }
+        }
+        return assemble(files);
+    }
+
+    /**
+     * Lists the seed files in load order: category files, role files, then progressions.yaml.
+     *
+     * @return paths relative to the seed root (e.g., "categories/programming.yaml")
+     */
+    public List<String> discoverFiles() {
+        List<String> files = new ArrayList<>();
+
+        // T019: Discover and load category resources
+        List<String> categoryFiles = discoverYamlResources(CATEGORIES_DIR);
+        log.info("Discovered {} category files", categoryFiles.size());
+        files.addAll(categoryFiles);
+
+        List<String> roleFiles = discoverYamlResources(ROLES_DIR);
+        log.info("Discovered {} role files", roleFiles.size());
+        files.addAll(roleFiles);
+
+        if (source.exists(PROGRESSIONS_FILE)) {
+            files.add(PROGRESSIONS_FILE);
+        } else {
+            log.warn("progressions.yaml not found, no progressions will be loaded");
+        }
+        return files;
+    }
+
+    /**
+     * Parses one seed file. Category and role files fail with filename context;
+     * progressions are optional, so a broken progressions.yaml yields null
+     * unless the loader is {@link #strict()}.
+     *
+     * @param file path relative to the seed root, as returned by {@link #discoverFiles()}
+     * @return parsed data of this file only
+     */
+    public YamlCompetencyData parseFileOrNull(String file) {
+        String filename = file.substring(file.lastIndexOf('/') + 1);
+        if (file.equals(PROGRESSIONS_FILE)) {
+            try {
+                log.info("Loading progressions from progressions.yaml");
+                return parseYamlResource(file);
+            } catch (Exception e) {
+                if (strict) {
+                    String error = "Failed to load progressions file " + PROGRESSIONS_FILE + ": " + e.getMessage();
+                    log.error(error, e);
+                    throw new RuntimeException(error, e);
+                }
+                log.warn("Failed to load progressions.yaml: {}", e.getMessage());
+                // Progressions are optional, continue without them
+                return null;
+            }
+        }
+
+        String kind = file.startsWith(ROLES_DIR + "/") ? "role" : "category";
+        try {
+            log.info("Loading {} file: {}", kind, filename);
+            return parseYamlResource(file);
+        } catch (Exception e) {
+            // T021: Per-file error reporting with filename context
+            String error = String.format("Failed to load %s file %s: %s", kind, filename, e.getMessage());
+            log.error(error, e);
+            throw new RuntimeException(error, e);
+        }
+    }
+
+    /**
+     * Merges per-file data into one data set and checks for duplicates across files.
+     *
+     * @param files parsed data per file, in load order
+     * @return merged competency data from all files
+     */
+    public YamlCompetencyData assemble(Map<String, YamlCompetencyData> files) {
+        List<YamlCompetencyData.CategoryData> allCategories = new ArrayList<>();
+        List<YamlCompetencyData.RoleData> allRoles = new ArrayList<>();
+        List<YamlCompetencyData.ProgressionData> allProgressions = new ArrayList<>();
+
+        Map<String, String> categoryFileMap = new HashMap<>();
+        Map<String, String> roleFileMap = new HashMap<>();
+
+        for (Map.Entry<String, YamlCompetencyData> entry : files.entrySet()) {
+            String filename = entry.getKey().substring(entry.getKey().lastIndexOf('/') + 1);
+            YamlCompetencyData data = entry.getValue();
+
+            // T020: Merge categories using List.addAll()
+            if (data.categories() != null && !data.categories().isEmpty()) {
+                for (YamlCompetencyData.CategoryData category : data.categories()) {
+                    categoryFileMap.put(category.name(), filename);
+                }
+                allCategories.addAll(data.categories());
+            }
+            if (data.roles() != null && !data.roles().isEmpty()) {
+                for (YamlCompetencyData.RoleData role : data.roles()) {
+                    roleFileMap.put(role.name(), filename);
+                }
+                allRoles.addAll(data.roles());
+            }
+            if (data.progressions() != null) {
+                allProgressions.addAll(data.progressions());
+            }
+        }
+
+        // T018: Detect duplicate categories and roles across files
+        detectDuplicateCategories(allCategories, categoryFileMap);
+        detectDuplicateRoles(allRoles, roleFileMap);
+
+        // T022: Log summary of loaded data
+        log.info("Loaded {} categories, {} roles, {} progressions from split files",
+                allCategories.size(), allRoles.size(), allProgressions.size());
+
+        return new YamlCompetencyData(allCategories, allRoles, allProgressions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<YamlCompetencyData.CategoryData> parseCategories(List<Map<String, Object>> categoriesList) {
+        if (categoriesList == null) {
+            return List.of();
+        }
+
+        List<YamlCompetencyData.CategoryData> categories = new ArrayList<>();
+        int displayOrder = 0;
+
+        for (Map<String, Object> categoryMap : categoriesList) {
+            String name = (String) categoryMap.get("name");
+            List<Map<String, Object>> skillsList = (List<Map<String, Object>>) categoryMap.get("skills");
+
+            List<YamlCompetencyData.SkillData> skills = new ArrayList<>();
+            if (skillsList != null) {
+                for (Map<String, Object> skillMap : skillsList) {
+                    String skillName = (String) skillMap.get("name");
+                    Map<String, String> levels = (Map<String, String>) skillMap.get("levels");
+
+                    skills.add(new YamlCompetencyData.SkillData(skillName, name, levels));
+                }
+            }
+
+            categories.add(new YamlCompetencyData.CategoryData(name, displayOrder++, skills));
+        }
+
+        return categories;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<YamlCompetencyData.RoleData> parseRoles(List<Map<String, Object>> rolesList) {
+        if (rolesList == null) {
+            return List.of();
+        }
+
+        List<YamlCompetencyData.RoleData> roles = new ArrayList<>();
+
+        for (Map<String, Object> roleMap : rolesList) {
+            String name = (String) roleMap.get("name");
+            String description = (String) roleMap.get("description");
+            String roleFamily = (String) roleMap.get("roleFamily");
+            Integer seniorityOrder = (Integer) roleMap.get("seniorityOrder");
+            List<Map<String, Object>> requirementsList = (List<Map<String, Object>>) roleMap.get("requirements");
+
+            List<YamlCompetencyData.RequirementData> requirements = new ArrayList<>();
+            if (requirementsList != null) {
+                for (Map<String, Object> reqMap : requirementsList) {
+                    String skillName = (String) reqMap.get("skill");
+                    String categoryName = (String) reqMap.get("category");
+                    String level = (String) reqMap.get("level");
+
+                    requirements.add(new YamlCompetencyData.RequirementData(skillName, categoryName, level));
+                }
+            }
+
+            roles.add(new YamlCompetencyData.RoleData(name, description, roleFamily, seniorityOrder, requirements));
+        }
+
+        return roles;
+    }
+
+    private List<YamlCompetencyData.ProgressionData> parseProgressions(List<Map<String, Object>> progressionsList) {
+        if (progressionsList == null) {
+            return List.of();
+        }
+
+        List<YamlCompetencyData.ProgressionData> progressions = new ArrayList<>();
+
+        for (Map<String, Object> progressionMap : progressionsList) {
+            String from = (String) progressionMap.get("from");
+            String to = (String) progressionMap.get("to");
+
+            progressions.add(new YamlCompetencyData.ProgressionData(from, to));
+        }
+
+        return progressions;
+    }
+
+    /**
+     * Discovers YAML resources in a seed subdirectory (JAR-compatible).
+     * Reads an index.txt file in the directory that lists all YAML files.
+     * This approach works in both development (file system) and production (JAR).
+     *
+     * @param directory subdirectory relative to the seed root (e.g., "categories")
+     * @return list of paths relative to the seed root that exist
+     */
+    private List<String> discoverYamlResources(String directory) {
+        String indexPath = directory + "/" + INDEX_FILE;
+        List<String> foundResources = new ArrayList<>();
+
+        try (InputStream indexStream = source.open(indexPath)) {
+            if (indexStream == null) {
+                List<String> listed = source.list(directory);
+                if (listed == null) {
+                    log.warn("Index file not found: {}", indexPath);
+                    return foundResources;
+                }
+                return listed;
+            }
+
+            // Read index file line by line
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    // Skip empty lines and comments
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+
+                    String resourcePath = directory + "/" + line;
+
+                    // Verify the resource exists
+                    if (source.exists(resourcePath)) {
+                        foundResources.add(resourcePath);
+                        log.debug("Found resource: {}", resourcePath);
+                    } else {
+                        log.warn("Resource listed in index but not found: {}", resourcePath);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to read index file: {}", indexPath, e);
+        }
+
+        return foundResources;
+    }
+
+    /**
+     * Parses a single YAML seed file.
+     * T006: Filename-to-entity mapping helper method
+     * Handles both single entity files (category/role files) and full competencies files (progressions)
+     *
+     * @param resourcePath path relative to the seed root (e.g., "categories/programming.yaml")
+     * @return parsed YamlCompetencyData
+     * @throws RuntimeException if parsing fails
+     */
+    @SuppressWarnings("unchecked")
+    private YamlCompetencyData parseYamlResource(String resourcePath) {
+        try (InputStream inputStream = source.open(resourcePath)) {
+            if (inputStream == null) {
+                throw new RuntimeException("Resource not found: " + resourcePath);
+            }
+
+            Yaml yaml = new Yaml();
+            Object rawData = yaml.load(inputStream);
+
+            String filename = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+
+            // Handle single entity files (categories/roles) vs progressions list
+            if (rawData instanceof Map) {
+                Map<String, Object> map = (Map<String, Object>) rawData;
+
+                // Check if this is a category file (has 'skills' key)
+                if (map.containsKey("skills")) {
+                    // Single category entity
+                    List<YamlCompetencyData.CategoryData> categories = parseCategories(List.of(map));
+                    return new YamlCompetencyData(categories, List.of(), List.of());
+                }
+                // Check if this is a role file (has 'requirements' key)
+                else if (map.containsKey("requirements") || map.containsKey("name")) {
+                    // Single role entity
+                    List<YamlCompetencyData.RoleData> roles = parseRoles(List.of(map));
+                    return new YamlCompetencyData(List.of(), roles, List.of());
+                }
+            }
+            // Handle progressions list (array of progression objects)
+            else if (rawData instanceof List) {
+                List<Map<String, Object>> list = (List<Map<String, Object>>) rawData;
+                List<YamlCompetencyData.ProgressionData> progressions = parseProgressions(list);
+                return new YamlCompetencyData(List.of(), List.of(), progressions);
+            }
+
+            throw new RuntimeException("Unrecognized YAML structure in " + filename);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse " + resourcePath + ": " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("YAML syntax error in " + resourcePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Detects duplicate category names across multiple files.
+     * T007: Duplicate detection for categories
+     *
+     * @param categories list of all category data from all files
+     * @param fileMap    map of category name to source filename
+     * @throws IllegalStateException if duplicates found
+     */
+    private void detectDuplicateCategories(List<YamlCompetencyData.CategoryData> categories,
+                                           Map<String, String> fileMap) {
+        Map<String, String> seen = new HashMap<>();
+
+        for (YamlCompetencyData.CategoryData category : categories) {
+            String name = category.name();
+
+            if (seen.containsKey(name)) {
+                String error = String.format(
+                        "Duplicate category '%s' found in files: %s and %s",
+                        name, seen.get(name), fileMap.get(name)
+                );
+                log.error(error);
+                throw new IllegalStateException(error);
+            }
+
+            seen.put(name, fileMap.get(name));
+        }
+    }
+
+    /**
+     * Detects duplicate role names across multiple files.
+     * T008: Duplicate detection for roles
+     *
+     * @param roles    list of all role data from all files
+     * @param fileMap  map of role name to source filename
+     * @throws IllegalStateException if duplicates found
+     */
+    private void detectDuplicateRoles(List<YamlCompetencyData.RoleData> roles,
+                                      Map<String, String> fileMap) {
+        Map<String, String> seen = new HashMap<>();
+
+        for (YamlCompetencyData.RoleData role : roles) {
+            String name = role.name();
+
+            if (seen.containsKey(name)) {
+                String error = String.format(
+                        "Duplicate role '%s' found in files: %s and %s",
+                        name, seen.get(name), fileMap.get(name)
+                );
+                log.error(error);
+                throw new IllegalStateException(error);
+            }
+
+            seen.put(name, fileMap.get(name));
+        }
+    }
+
+    /**
+     * Where seed files are read from. Paths are relative to the seed root.
+     */
+    private interface SeedSource {
+        /**
+         * @return stream for the file, or null if it does not exist
+         */
+        InputStream open(String path) throws IOException;
+
+        boolean exists(String path);
+
+        /**
+         * @return .yaml files of the directory in alphabetical order, or null if listing is not supported
+         */
+        List<String> list(String directory);
+    }
+
+    private record ClasspathSource(ClassLoader classLoader, String root) implements SeedSource {
+        @Override
+        public InputStream open(String path) {
+            return classLoader.getResourceAsStream(root + "/" + path);
+        }
+
+        @Override
+        public boolean exists(String path) {
+            return classLoader.getResource(root + "/" + path) != null;
+        }
+
+        @Override
+        public List<String> list(String directory) {
+            // Classpath directories cannot be listed inside a jar; index.txt is required
+            return null;
+        }
+    }
+
+    private record DirectorySource(Path root) implements SeedSource {
+        @Override
+        public InputStream open(String path) throws IOException {
+            Path file = root.resolve(path);
+            return Files.isRegularFile(file) ? Files.newInputStream(file) : null;
+        }
+
+        @Override
+        public boolean exists(String path) {
+            return Files.isRegularFile(root.resolve(path));
+        }
+
+        @Override
+        public List<String> list(String directory) {
+            Path dir = root.resolve(directory);
+            if (!Files.isDirectory(dir)) {
+                return null;
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                return files
+                        .map(file -> file.getFileName().toString())
+                        .filter(name -> name.endsWith(".yaml") || name.endsWith(".yml"))
+                        .sorted()
+                        .map(name -> directory + "/" + name)
+                        .toList();
+            } catch (IOException e) {
+                log.error("Failed to list seed directory: {}", dir, e);
+                return List.of();
+            }
+        }
+    }
+}
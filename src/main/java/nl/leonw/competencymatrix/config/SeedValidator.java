@@ -0,0 +1,142 @@
+package nl.leonw.competencymatrix.config;
+
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static nl.leonw.competencymatrix.model.NameNormalizer.normalize;
+
+/**
+ * Validation rules for parsed seed data.
+ * Structural checks run before every sync; reference checks run at build time on the bundled seed,
+ * which has to be self-contained.
+ */
+public final class SeedValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedValidator.class);
+
+    private SeedValidator() {
+    }
+
+    /**
+     * Validates the structure and content of parsed YAML data.
+     *
+     * @param data Parsed YAML data to validate
+     * @throws RuntimeException if validation fails
+     */
+    public static void validateStructure(YamlCompetencyData data) {
+        if (data.categories() == null || data.roles() == null || data.progressions() == null) {
+            throw new RuntimeException("Invalid YAML: missing required top-level keys (categories, roles, progressions)");
+        }
+
+        // Validate categories
+        for (YamlCompetencyData.CategoryData category : data.categories()) {
+            if (category.name() == null || category.name().trim().isEmpty()) {
+                throw new RuntimeException("Invalid YAML: Category name is required");
+            }
+            if (category.skills() == null) {
+                throw new RuntimeException("Invalid YAML: Category '" + category.name() + "' is missing 'skills' list");
+            }
+
+            // Validate skills
+            for (YamlCompetencyData.SkillData skill : category.skills()) {
+                if (skill.name() == null || skill.name().trim().isEmpty()) {
+                    throw new RuntimeException("Invalid YAML: Skill name is required in category '" + category.name() + "'");
+                }
+                if (skill.levels() == null || skill.levels().size() != 4) {
+                    throw new RuntimeException("Invalid YAML: Skill '" + skill.name() + "' must have all four levels (basic, decent, good, excellent)");
+                }
+                if (!skill.levels().containsKey("basis") || !skill.levels().containsKey("redelijk") ||
+                    !skill.levels().containsKey("goed") || !skill.levels().containsKey("uitstekend")) {
+                    throw new RuntimeException("Invalid YAML: Skill '" + skill.name() + "' must have levels: basis, redelijk, goed, uitstekend");
+                }
+            }
+        }
+
+        // Validate roles
+        for (YamlCompetencyData.RoleData role : data.roles()) {
+            if (role.name() == null || role.name().trim().isEmpty()) {
+                throw new RuntimeException("Invalid YAML: Role name is required");
+            }
+            if (role.description() == null) {
+                throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' is missing 'description'");
+            }
+            if (role.requirements() == null) {
+                throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' is missing 'requirements' list");
+            }
+
+            // Validate requirements
+            for (YamlCompetencyData.RequirementData req : role.requirements()) {
+                if (req.skillName() == null || req.skillName().trim().isEmpty()) {
+                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing skill name");
+                }
+                if (req.categoryName() == null || req.categoryName().trim().isEmpty()) {
+                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing category name");
+                }
+                if (req.level() == null || req.level().trim().isEmpty()) {
+                    throw new RuntimeException("Invalid YAML: Requirement in role '" + role.name() + "' missing level");
+                }
+            }
+        }
+
+        // Validate progressions
+        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
+            if (progression.fromRoleName() == null || progression.fromRoleName().trim().isEmpty()) {
+                throw new RuntimeException("Invalid YAML: Progression missing 'from' role name");
+            }
+            if (progression.toRoleName() == null || progression.toRoleName().trim().isEmpty()) {
+                throw new RuntimeException("Invalid YAML: Progression missing 'to' role name");
+            }
+        }
+
+        log.debug("YAML validation passed");
+    }
+
+    /**
+     * Validates that every requirement and progression refers to an entity defined in the same data set
+     * and that requirement levels are known proficiency levels.
+     *
+     * @param data structurally valid seed data
+     * @throws RuntimeException if a reference cannot be resolved
+     */
+    public static void validateReferences(YamlCompetencyData data) {
+        Set<String> skillKeys = new HashSet<>();
+        for (YamlCompetencyData.CategoryData category : data.categories()) {
+            for (YamlCompetencyData.SkillData skill : category.skills()) {
+                skillKeys.add(normalize(category.name()) + "::" + normalize(skill.name()));
+            }
+        }
+
+        Set<String> roleNames = new HashSet<>();
+        for (YamlCompetencyData.RoleData role : data.roles()) {
+            roleNames.add(normalize(role.name()));
+
+            for (YamlCompetencyData.RequirementData req : role.requirements()) {
+                if (!skillKeys.contains(normalize(req.categoryName()) + "::" + normalize(req.skillName()))) {
+                    throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' references skill '"
+                            + req.skillName() + "' in category '" + req.categoryName() + "' which is not defined");
+                }
+                try {
+                    ProficiencyLevel.fromString(req.level().trim());
+                } catch (IllegalArgumentException e) {
+                    throw new RuntimeException("Invalid YAML: Role '" + role.name() + "' has unknown level '"
+                            + req.level() + "' for skill '" + req.skillName() + "'");
+                }
+            }
+        }
+
+        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
+            if (!roleNames.contains(normalize(progression.fromRoleName()))) {
+                throw new RuntimeException("Invalid YAML: Progression references unknown role '"
+                        + progression.fromRoleName() + "'");
+            }
+            if (!roleNames.contains(normalize(progression.toRoleName()))) {
+                throw new RuntimeException("Invalid YAML: Progression references unknown role '"
+                        + progression.toRoleName() + "'");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package nl.leonw.competencymatrix.config;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Phases of a sync, in the order they complete.
+ * PARSE loads the seed (only when the sync reads it itself), VALIDATE checks its structure and
+ * PLAN computes the changes against the database. Each following phase covers the deletes,
+ * inserts and updates of one entity type.
+ */
+public enum SyncPhase {
+    PARSE,
+    VALIDATE,
+    PLAN,
+    CATEGORIES,
+    SKILLS,
+    ROLES,
+    REQUIREMENTS,
+    PROGRESSIONS;
+
+    /**
+     * Phases that write to the database, reported by {@link CompetencySyncService#applyPlan}.
+     */
+    public static Set<SyncPhase> writePhases() {
+        return EnumSet.range(CATEGORIES, PROGRESSIONS);
+    }
+}
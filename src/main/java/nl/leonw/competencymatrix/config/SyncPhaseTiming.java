@@ -0,0 +1,25 @@
+package nl.leonw.competencymatrix.config;
+
+import java.time.Duration;
+
+/**
+ * Wall-clock time, JDBC statements and throughput of one phase of a sync.
+ *
+ * @param rows          entities parsed or validated, changes planned, or rows written (see {@link SyncProgressListener})
+ * @param elapsedMs     wall-clock time of the phase
+ * @param statements    JDBC statements executed during the phase
+ * @param rowsPerSecond rows divided by the elapsed time; 0 when nothing was timed
+ */
+public record SyncPhaseTiming(
+    SyncPhase phase,
+    int rows,
+    double elapsedMs,
+    int statements,
+    double rowsPerSecond
+) {
+    public static SyncPhaseTiming of(SyncPhase phase, int rows, Duration elapsed, int statements) {
+        long nanos = elapsed.toNanos();
+        double rowsPerSecond = nanos > 0 ? rows * 1_000_000_000.0 / nanos : 0;
+        return new SyncPhaseTiming(phase, rows, nanos / 1_000_000.0, statements, rowsPerSecond);
+    }
+}
@@ -0,0 +1,116 @@
+package nl.leonw.competencymatrix.config;
+
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+
+import java.util.List;
+
+/**
+ * Complete set of database changes needed to bring the database in line with parsed YAML data.
+ * Computed by {@link SyncPlanner} without writing anything; applied by
+ * {@link CompetencySyncService#applyPlan(SyncPlan)}.
+ *
+ * <p>Entities that already exist carry their database id. Entities that are still to be inserted
+ * have a null id and are referenced by name, so dependent changes (skills of a new category,
+ * requirements of a new role) can be resolved while the plan is applied.</p>
+ */
+public record SyncPlan(
+    SyncMode mode,
+    Changes<CompetencyCategory> categories,
+    Changes<SkillChange> skills,
+    Changes<Role> roles,
+    Changes<RequirementChange> requirements,
+    Changes<ProgressionChange> progressions
+) {
+    /**
+     * Inserts, updates and deletes for one entity type.
+     */
+    public record Changes<T>(
+        List<T> inserts,
+        List<T> updates,
+        List<T> deletes
+    ) {
+        public Changes {
+            inserts = List.copyOf(inserts);
+            updates = List.copyOf(updates);
+            deletes = List.copyOf(deletes);
+        }
+
+        public int size() {
+            return inserts.size() + updates.size() + deletes.size();
+        }
+    }
+
+    /**
+     * Skill change; the category name resolves the category id for skills of newly inserted categories.
+     */
+    public record SkillChange(
+        String categoryName,
+        Skill skill
+    ) {}
+
+    /**
+     * Requirement change; names resolve role and skill ids that are only known after insertion.
+     */
+    public record RequirementChange(
+        String roleName,
+        String categoryName,
+        String skillName,
+        RoleSkillRequirement requirement
+    ) {}
+
+    /**
+     * Progression change; names resolve role ids that are only known after insertion.
+     */
+    public record ProgressionChange(
+        String fromRoleName,
+        String toRoleName,
+        RoleProgression progression
+    ) {}
+
+    /**
+     * Plan without changes, used for sync mode none.
+     */
+    public static SyncPlan empty(SyncMode mode) {
+        Changes<CompetencyCategory> categories = new Changes<>(List.of(), List.of(), List.of());
+        Changes<SkillChange> skills = new Changes<>(List.of(), List.of(), List.of());
+        Changes<Role> roles = new Changes<>(List.of(), List.of(), List.of());
+        Changes<RequirementChange> requirements = new Changes<>(List.of(), List.of(), List.of());
+        Changes<ProgressionChange> progressions = new Changes<>(List.of(), List.of(), List.of());
+        return new SyncPlan(mode, categories, skills, roles, requirements, progressions);
+    }
+
+    public int changeCount() {
+        return categories.size() + skills.size() + roles.size() + requirements.size() + progressions.size();
+    }
+
+    public boolean isEmpty() {
+        return changeCount() == 0;
+    }
+
+    /**
+     * Summarizes the plan as the counts it produces when applied.
+     */
+    public SyncResult toResult() {
+        return new SyncResult(
+                categories.inserts().size(),
+                categories.updates().size(),
+                skills.inserts().size(),
+                skills.updates().size(),
+                roles.inserts().size(),
+                roles.updates().size(),
+                requirements.inserts().size(),
+                requirements.updates().size(),
+                progressions.inserts().size(),
+                progressions.updates().size(),
+                categories.deletes().size(),
+                skills.deletes().size(),
+                roles.deletes().size(),
+                requirements.deletes().size(),
+                progressions.deletes().size()
+        );
+    }
+}
@@ -0,0 +1,432 @@
+package nl.leonw.competencymatrix.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static nl.leonw.competencymatrix.model.NameNormalizer.normalize;
+
+/**
+ * Computes a {@link SyncPlan} by diffing parsed YAML data against one bulk read of each table.
+ * Never writes to the database, so it also backs the dry-run endpoint.
+ *
+ * <p>MERGE plans only contain inserts and updates. REPLACE plans additionally delete every entity
+ * that is not present in the YAML data, leaving the database equal to the YAML contents.</p>
+ */
+@ApplicationScoped
+public class SyncPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncPlanner.class);
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Inject
+    RoleSkillRequirementRepository requirementRepository;
+
+    @Inject
+    RoleProgressionRepository progressionRepository;
+
+    /**
+     * Computes the changes needed to apply the YAML data in the given mode.
+     *
+     * @param data validated YAML data
+     * @param mode sync mode; NONE yields an empty plan
+     * @return complete change plan
+     */
+    public SyncPlan plan(YamlCompetencyData data, SyncMode mode) {
+        if (mode == SyncMode.NONE) {
+            return SyncPlan.empty(mode);
+        }
+        boolean replace = mode == SyncMode.REPLACE;
+
+        List<CompetencyCategory> dbCategories = categoryRepository.findAllOrderByDisplayOrder();
+        List<Skill> dbSkills = skillRepository.findAllOrderByName();
+        List<Role> dbRoles = roleRepository.findAllOrderByName();
+        List<RoleSkillRequirement> dbRequirements = requirementRepository.findAll();
+        List<RoleProgression> dbProgressions = progressionRepository.findAll();
+
+        // In REPLACE mode everything outside the YAML is deleted, so references may only resolve within it
+        Lookup lookup = new Lookup(replace ? List.of() : dbCategories,
+                replace ? List.of() : dbSkills,
+                replace ? List.of() : dbRoles);
+
+        Builder<CompetencyCategory> categories = planCategories(data, dbCategories, replace, lookup);
+        Builder<SyncPlan.SkillChange> skills = planSkills(data, dbCategories, dbSkills, replace, lookup);
+        Builder<Role> roles = planRoles(data, dbRoles, replace, lookup);
+        Builder<SyncPlan.RequirementChange> requirements = planRequirements(data, dbRequirements, replace, lookup);
+        Builder<SyncPlan.ProgressionChange> progressions = planProgressions(data, dbProgressions, replace, lookup);
+
+        SyncPlan plan = new SyncPlan(mode, categories.build(), skills.build(), roles.build(),
+                requirements.build(), progressions.build());
+        log.debug("Sync plan ({}): {} changes", mode.name().toLowerCase(), plan.changeCount());
+        return plan;
+    }
+
+    private Builder<CompetencyCategory> planCategories(YamlCompetencyData data,
+                                                       List<CompetencyCategory> dbCategories,
+                                                       boolean replace,
+                                                       Lookup lookup) {
+        Builder<CompetencyCategory> changes = new Builder<>();
+        Map<String, CompetencyCategory> existingByName = new HashMap<>();
+        for (CompetencyCategory existing : dbCategories) {
+            existingByName.put(normalize(existing.name()), existing);
+        }
+
+        Set<Integer> keptIds = new HashSet<>();
+        for (YamlCompetencyData.CategoryData yamlCategory : data.categories()) {
+            String normalizedName = normalize(yamlCategory.name());
+            if (lookup.yamlCategories.containsKey(normalizedName)) {
+                log.warn("Category '{}' is defined more than once; ignoring repeated definition", yamlCategory.name());
+                continue;
+            }
+
+            CompetencyCategory existing = existingByName.get(normalizedName);
+            if (existing == null) {
+                changes.inserts.add(new CompetencyCategory(yamlCategory.name(), yamlCategory.displayOrder()));
+                lookup.yamlCategories.put(normalizedName, null);
+            } else {
+                keptIds.add(existing.id());
+                lookup.yamlCategories.put(normalizedName, existing.id());
+                if (!existing.name().equals(yamlCategory.name())
+                        || existing.displayOrder() != yamlCategory.displayOrder()) {
+                    changes.updates.add(new CompetencyCategory(
+                            existing.id(), yamlCategory.name(), yamlCategory.displayOrder()));
+                }
+            }
+        }
+
+        if (replace) {
+            for (CompetencyCategory existing : dbCategories) {
+                if (!keptIds.contains(existing.id())) {
+                    changes.deletes.add(existing);
+                }
+            }
+        }
+        return changes;
+    }
+
+    private Builder<SyncPlan.SkillChange> planSkills(YamlCompetencyData data,
+                                                     List<CompetencyCategory> dbCategories,
+                                                     List<Skill> dbSkills,
+                                                     boolean replace,
+                                                     Lookup lookup) {
+        Builder<SyncPlan.SkillChange> changes = new Builder<>();
+        Map<String, Skill> existingByKey = new HashMap<>();
+        for (Skill existing : dbSkills) {
+            existingByKey.put(existing.categoryId() + "::" + normalize(existing.name()), existing);
+        }
+
+        Set<Integer> keptIds = new HashSet<>();
+        Set<String> plannedCategories = new HashSet<>();
+        for (YamlCompetencyData.CategoryData yamlCategory : data.categories()) {
+            String normalizedCategory = normalize(yamlCategory.name());
+            if (!plannedCategories.add(normalizedCategory)) {
+                continue;
+            }
+            Integer categoryId = lookup.yamlCategories.get(normalizedCategory);
+
+            for (YamlCompetencyData.SkillData yamlSkill : yamlCategory.skills()) {
+                String key = skillKey(yamlCategory.name(), yamlSkill.name());
+                if (lookup.yamlSkills.containsKey(key)) {
+                    log.warn("Skill '{}' is defined more than once in category '{}'; ignoring repeated definition",
+                            yamlSkill.name(), yamlCategory.name());
+                    continue;
+                }
+
+                Map<String, String> levels = yamlSkill.levels();
+                Skill existing = categoryId == null
+                        ? null
+                        : existingByKey.get(categoryId + "::" + normalize(yamlSkill.name()));
+                if (existing == null) {
+                    changes.inserts.add(new SyncPlan.SkillChange(yamlCategory.name(), new Skill(
+                            yamlSkill.name(), categoryId, levels.get("basis"), levels.get("redelijk"),
+                            levels.get("goed"), levels.get("uitstekend"))));
+                    lookup.yamlSkills.put(key, null);
+                } else {
+                    keptIds.add(existing.id());
+                    lookup.yamlSkills.put(key, existing.id());
+                    if (skillNeedsUpdate(existing, yamlSkill)) {
+                        changes.updates.add(new SyncPlan.SkillChange(yamlCategory.name(), new Skill(
+                                existing.id(), yamlSkill.name(), categoryId, levels.get("basis"),
+                                levels.get("redelijk"), levels.get("goed"), levels.get("uitstekend"))));
+                    }
+                }
+            }
+        }
+
+        if (replace) {
+            Map<Integer, String> categoryNames = new HashMap<>();
+            for (CompetencyCategory category : dbCategories) {
+                categoryNames.put(category.id(), category.name());
+            }
+            for (Skill existing : dbSkills) {
+                if (!keptIds.contains(existing.id())) {
+                    changes.deletes.add(new SyncPlan.SkillChange(categoryNames.get(existing.categoryId()), existing));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private Builder<Role> planRoles(YamlCompetencyData data,
+                                    List<Role> dbRoles,
+                                    boolean replace,
+                                    Lookup lookup) {
+        Builder<Role> changes = new Builder<>();
+        Map<String, Role> existingByName = new HashMap<>();
+        for (Role existing : dbRoles) {
+            existingByName.put(normalize(existing.name()), existing);
+        }
+
+        Set<Integer> keptIds = new HashSet<>();
+        for (YamlCompetencyData.RoleData yamlRole : data.roles()) {
+            String normalizedName = normalize(yamlRole.name());
+            if (lookup.yamlRoles.containsKey(normalizedName)) {
+                log.warn("Role '{}' is defined more than once; ignoring repeated definition", yamlRole.name());
+                continue;
+            }
+
+            Role existing = existingByName.get(normalizedName);
+            if (existing == null) {
+                changes.inserts.add(new Role(yamlRole.name(), yamlRole.description(),
+                        yamlRole.roleFamily(), yamlRole.seniorityOrder()));
+                lookup.yamlRoles.put(normalizedName, null);
+            } else {
+                keptIds.add(existing.id());
+                lookup.yamlRoles.put(normalizedName, existing.id());
+                if (roleNeedsUpdate(existing, yamlRole)) {
+                    changes.updates.add(new Role(existing.id(), yamlRole.name(), yamlRole.description(),
+                            yamlRole.roleFamily(), yamlRole.seniorityOrder()));
+                }
+            }
+        }
+
+        if (replace) {
+            for (Role existing : dbRoles) {
+                if (!keptIds.contains(existing.id())) {
+                    changes.deletes.add(existing);
+                }
+            }
+        }
+        return changes;
+    }
+
+    private Builder<SyncPlan.RequirementChange> planRequirements(YamlCompetencyData data,
+                                                                 List<RoleSkillRequirement> dbRequirements,
+                                                                 boolean replace,
+                                                                 Lookup lookup) {
+        Builder<SyncPlan.RequirementChange> changes = new Builder<>();
+        Map<String, RoleSkillRequirement> existingByIds = new HashMap<>();
+        for (RoleSkillRequirement existing : dbRequirements) {
+            existingByIds.put(existing.roleId() + ":" + existing.skillId(), existing);
+        }
+
+        // Last definition wins when a role lists the same skill twice
+        Map<String, SyncPlan.RequirementChange> desired = new LinkedHashMap<>();
+        for (YamlCompetencyData.RoleData yamlRole : data.roles()) {
+            Integer roleId = lookup.resolveRole(yamlRole.name());
+
+            for (YamlCompetencyData.RequirementData requirement : yamlRole.requirements()) {
+                Integer categoryId = lookup.resolveCategory(requirement.categoryName());
+                Integer skillId = lookup.resolveSkill(requirement, categoryId);
+                ProficiencyLevel requiredLevel = ProficiencyLevel.fromString(requirement.level());
+
+                String key = normalize(yamlRole.name()) + "|" + skillKey(requirement.categoryName(), requirement.skillName());
+                desired.put(key, new SyncPlan.RequirementChange(yamlRole.name(), requirement.categoryName(),
+                        requirement.skillName(), new RoleSkillRequirement(roleId, skillId, requiredLevel)));
+            }
+        }
+
+        Set<Integer> keptIds = new HashSet<>();
+        for (SyncPlan.RequirementChange change : desired.values()) {
+            RoleSkillRequirement wanted = change.requirement();
+            RoleSkillRequirement existing = wanted.roleId() == null || wanted.skillId() == null
+                    ? null
+                    : existingByIds.get(wanted.roleId() + ":" + wanted.skillId());
+            if (existing == null) {
+                changes.inserts.add(change);
+            } else {
+                keptIds.add(existing.id());
+                if (existing.requiredLevel() != wanted.requiredLevel()) {
+                    changes.updates.add(new SyncPlan.RequirementChange(change.roleName(), change.categoryName(),
+                            change.skillName(), new RoleSkillRequirement(existing.id(), existing.roleId(),
+                            existing.skillId(), wanted.requiredLevel())));
+                }
+            }
+        }
+
+        if (replace) {
+            for (RoleSkillRequirement existing : dbRequirements) {
+                if (!keptIds.contains(existing.id())) {
+                    changes.deletes.add(new SyncPlan.RequirementChange(null, null, null, existing));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private Builder<SyncPlan.ProgressionChange> planProgressions(YamlCompetencyData data,
+                                                                 List<RoleProgression> dbProgressions,
+                                                                 boolean replace,
+                                                                 Lookup lookup) {
+        Builder<SyncPlan.ProgressionChange> changes = new Builder<>();
+        Map<String, RoleProgression> existingByIds = new HashMap<>();
+        for (RoleProgression existing : dbProgressions) {
+            existingByIds.put(existing.fromRoleId() + ":" + existing.toRoleId(), existing);
+        }
+
+        Set<String> planned = new HashSet<>();
+        Set<Integer> keptIds = new HashSet<>();
+        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
+            Integer fromRoleId = lookup.resolveRole(progression.fromRoleName());
+            Integer toRoleId = lookup.resolveRole(progression.toRoleName());
+            if (!planned.add(normalize(progression.fromRoleName()) + "|" + normalize(progression.toRoleName()))) {
+                continue;
+            }
+
+            RoleProgression existing = fromRoleId == null || toRoleId == null
+                    ? null
+                    : existingByIds.get(fromRoleId + ":" + toRoleId);
+            if (existing == null) {
+                changes.inserts.add(new SyncPlan.ProgressionChange(progression.fromRoleName(),
+                        progression.toRoleName(), new RoleProgression(fromRoleId, toRoleId)));
+            } else {
+                keptIds.add(existing.id());
+            }
+        }
+
+        if (replace) {
+            for (RoleProgression existing : dbProgressions) {
+                if (!keptIds.contains(existing.id())) {
+                    changes.deletes.add(new SyncPlan.ProgressionChange(null, null, existing));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private boolean skillNeedsUpdate(Skill existing, YamlCompetencyData.SkillData yamlSkill) {
+        Map<String, String> levels = yamlSkill.levels();
+        return !existing.name().equals(yamlSkill.name())
+                || !Objects.equals(existing.basicDescription(), levels.get("basis"))
+                || !Objects.equals(existing.decentDescription(), levels.get("redelijk"))
+                || !Objects.equals(existing.goodDescription(), levels.get("goed"))
+                || !Objects.equals(existing.excellentDescription(), levels.get("uitstekend"));
+    }
+
+    private boolean roleNeedsUpdate(Role existing, YamlCompetencyData.RoleData yamlRole) {
+        return !existing.name().equals(yamlRole.name())
+                || !Objects.equals(existing.description(), yamlRole.description())
+                || !Objects.equals(existing.roleFamily(), yamlRole.roleFamily())
+                || !Objects.equals(existing.seniorityOrder(), yamlRole.seniorityOrder());
+    }
+
+    static String skillKey(String categoryName, String skillName) {
+        return normalize(categoryName) + "::" + normalize(skillName);
+    }
+
+    private static final class Builder<T> {
+        private final List<T> inserts = new ArrayList<>();
+        private final List<T> updates = new ArrayList<>();
+        private final List<T> deletes = new ArrayList<>();
+
+        private SyncPlan.Changes<T> build() {
+            return new SyncPlan.Changes<>(inserts, updates, deletes);
+        }
+    }
+
+    /**
+     * Name resolution for references. YAML entities map to their existing id, or null when they are
+     * still to be inserted; entities that only exist in the database (MERGE mode) map to their id.
+     */
+    private static final class Lookup {
+        private final Map<String, Integer> yamlCategories = new HashMap<>();
+        private final Map<String, Integer> yamlSkills = new HashMap<>();
+        private final Map<String, Integer> yamlRoles = new HashMap<>();
+        private final Map<String, Integer> dbCategories = new HashMap<>();
+        private final Map<String, Integer> dbSkills = new HashMap<>();
+        private final Map<String, Integer> dbRoles = new HashMap<>();
+
+        private Lookup(List<CompetencyCategory> categories, List<Skill> skills, List<Role> roles) {
+            for (CompetencyCategory category : categories) {
+                dbCategories.put(normalize(category.name()), category.id());
+            }
+            for (Skill skill : skills) {
+                dbSkills.put(skill.categoryId() + "::" + normalize(skill.name()), skill.id());
+            }
+            for (Role role : roles) {
+                dbRoles.put(normalize(role.name()), role.id());
+            }
+        }
+
+        private Integer resolveCategory(String categoryName) {
+            String normalized = normalize(categoryName);
+            if (yamlCategories.containsKey(normalized)) {
+                return yamlCategories.get(normalized);
+            }
+            if (dbCategories.containsKey(normalized)) {
+                return dbCategories.get(normalized);
+            }
+            String message = "Category '" + categoryName + "' does not exist in database or YAML";
+            log.error(message);
+            throw new RuntimeException(message);
+        }
+
+        private Integer resolveSkill(YamlCompetencyData.RequirementData requirement, Integer categoryId) {
+            String key = skillKey(requirement.categoryName(), requirement.skillName());
+            if (yamlSkills.containsKey(key)) {
+                return yamlSkills.get(key);
+            }
+            String dbKey = categoryId + "::" + normalize(requirement.skillName());
+            if (categoryId != null && dbSkills.containsKey(dbKey)) {
+                return dbSkills.get(dbKey);
+            }
+            String message = "Role requirement references skill '" + requirement.skillName()
+                    + "' in category '" + requirement.categoryName()
+                    + "' which does not exist in database or YAML";
+            log.error(message);
+            throw new RuntimeException(message);
+        }
+
+        private Integer resolveRole(String roleName) {
+            String normalized = normalize(roleName);
+            if (yamlRoles.containsKey(normalized)) {
+                return yamlRoles.get(normalized);
+            }
+            if (dbRoles.containsKey(normalized)) {
+                return dbRoles.get(normalized);
+            }
+            String message = "Role '" + roleName + "' does not exist in database or YAML";
+            log.error(message);
+            throw new RuntimeException(message);
+        }
+    }
+}
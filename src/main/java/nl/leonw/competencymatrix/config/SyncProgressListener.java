@@ -0,0 +1,21 @@
+package nl.leonw.competencymatrix.config;
+
+import java.time.Duration;
+
+/**
+ * Receives phase-level progress while a sync runs.
+ * Called on the thread that runs the sync, inside its transaction.
+ */
+@FunctionalInterface
+public interface SyncProgressListener {
+
+    SyncProgressListener NONE = (phase, rows, elapsed) -> { };
+
+    /**
+     * @param phase   phase that just completed
+     * @param rows    number of entities parsed or validated, changes planned, or rows inserted,
+     *                updated or deleted in this phase
+     * @param elapsed time spent in this phase
+     */
+    void phaseCompleted(SyncPhase phase, int rows, Duration elapsed);
+}
@@ -1,8 +1,14 @@
 package nl.leonw.competencymatrix.config;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Tracks the outcomes of a competency synchronization operation.
  * Used for comprehensive logging and reporting.
+ * {@code timings} has one entry per {@link SyncPhase} that ran, in order; empty when not timed.
+ * Timings differ on every run; use {@link #sameCounts} to compare the outcome of two runs.
  */
 public record SyncResult(
     int categoriesAdded,
@@ -19,8 +25,68 @@ public record SyncResult(
     int skillsDeleted,        // Only non-zero in REPLACE mode
     int rolesDeleted,         // Only non-zero in REPLACE mode
     int requirementsDeleted,  // Only non-zero in REPLACE mode
-    int progressionsDeleted   // Only non-zero in REPLACE mode
+    int progressionsDeleted,  // Only non-zero in REPLACE mode
+    List<SyncPhaseTiming> timings
 ) {
+    public SyncResult {
+        timings = timings == null ? List.of() : List.copyOf(timings);
+    }
+
+    public SyncResult(int categoriesAdded, int categoriesUpdated, int skillsAdded, int skillsUpdated,
+                      int rolesAdded, int rolesUpdated, int requirementsAdded, int requirementsUpdated,
+                      int progressionsAdded, int progressionsUpdated, int categoriesDeleted, int skillsDeleted,
+                      int rolesDeleted, int requirementsDeleted, int progressionsDeleted) {
+        this(categoriesAdded, categoriesUpdated, skillsAdded, skillsUpdated, rolesAdded, rolesUpdated,
+                requirementsAdded, requirementsUpdated, progressionsAdded, progressionsUpdated, categoriesDeleted,
+                skillsDeleted, rolesDeleted, requirementsDeleted, progressionsDeleted, List.of());
+    }
+
+    /**
+     * Whether both results have the same counts, ignoring their timings.
+     */
+    public boolean sameCounts(SyncResult other) {
+        return Arrays.equals(counts(), other.counts());
+    }
+
+    private int[] counts() {
+        return new int[]{categoriesAdded, categoriesUpdated, skillsAdded, skillsUpdated, rolesAdded, rolesUpdated,
+                requirementsAdded, requirementsUpdated, progressionsAdded, progressionsUpdated, categoriesDeleted,
+                skillsDeleted, rolesDeleted, requirementsDeleted, progressionsDeleted};
+    }
+
+    /**
+     * Same counts with the given phase timings.
+     */
+    public SyncResult withTimings(List<SyncPhaseTiming> timings) {
+        return new SyncResult(categoriesAdded, categoriesUpdated, skillsAdded, skillsUpdated, rolesAdded,
+                rolesUpdated, requirementsAdded, requirementsUpdated, progressionsAdded, progressionsUpdated,
+                categoriesDeleted, skillsDeleted, rolesDeleted, requirementsDeleted, progressionsDeleted, timings);
+    }
+
+    /**
+     * Formats the phase timings for logging, e.g.
+     * "Sync timings: parse 12.1 ms (640 rows, 0 statements, 52893 rows/s), ..., total 85.0 ms, 702 statements".
+     *
+     * @return A formatted timing string, or "Sync timings: not recorded" without timings
+     */
+    public String formatTimings() {
+        if (timings.isEmpty()) {
+            return "Sync timings: not recorded";
+        }
+        StringBuilder sb = new StringBuilder("Sync timings: ");
+        double totalMs = 0;
+        int totalStatements = 0;
+        for (SyncPhaseTiming timing : timings) {
+            sb.append(String.format(Locale.ROOT, "%s %.1f ms (%d rows, %d statements, %.0f rows/s), ",
+                    timing.phase().name().toLowerCase(), timing.elapsedMs(), timing.rows(), timing.statements(),
+                    timing.rowsPerSecond()));
+            totalMs += timing.elapsedMs();
+            totalStatements += timing.statements();
+        }
+        sb.append(String.format(Locale.ROOT, "total %.1f ms, %d statements", totalMs, totalStatements));
+        return sb.toString();
+    }
+
     /**
      * Formats a human-readable summary of the synchronization results.
      *
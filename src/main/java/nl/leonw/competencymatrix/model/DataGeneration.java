@@ -0,0 +1,10 @@
+package nl.leonw.competencymatrix.model;
+
+import java.time.Instant;
+
+// Plain record - no framework annotations
+public record DataGeneration(
+        long generation,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,27 @@
+package nl.leonw.competencymatrix.model;
+
+import java.util.Locale;
+
+/**
+ * Case/space-insensitive name matching shared by seed validation and synchronization. The
+ * name_normalized columns (V4 migration) hold the same value, computed by the database.
+ */
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    /**
+     * Normalizes a string for case/space-insensitive matching.
+     * Converts to lowercase, trims, and collapses multiple spaces.
+     *
+     * @param value String to normalize
+     * @return Normalized string (lowercase, trimmed, single spaces)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
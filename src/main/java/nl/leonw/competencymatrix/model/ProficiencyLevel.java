@@ -16,10 +16,21 @@ public enum ProficiencyLevel {
         return displayName;
     }
 
+    /**
+     * 1-based position, also the value stored in role_skill_requirement.required_level.
+     */
     public int getOrdinalValue() {
         return ordinal() + 1;
     }
 
+    public static ProficiencyLevel fromOrdinalValue(int value) {
+        ProficiencyLevel[] levels = values();
+        if (value < 1 || value > levels.length) {
+            throw new IllegalArgumentException("Unknown proficiency level: " + value);
+        }
+        return levels[value - 1];
+    }
+
     public static ProficiencyLevel fromString(String value) {
         if (value == null) {
             return null;
@@ -5,13 +5,9 @@ public record RoleSkillRequirement(
         Integer id,
         Integer roleId,
         Integer skillId,
-        String requiredLevel
+        ProficiencyLevel requiredLevel
 ) {
-    public RoleSkillRequirement(Integer roleId, Integer skillId, String requiredLevel) {
+    public RoleSkillRequirement(Integer roleId, Integer skillId, ProficiencyLevel requiredLevel) {
         this(null, roleId, skillId, requiredLevel);
     }
-
-    public ProficiencyLevel getProficiencyLevel() {
-        return ProficiencyLevel.fromString(requiredLevel);
-    }
 }
@@ -0,0 +1,11 @@
+package nl.leonw.competencymatrix.model;
+
+import java.time.Instant;
+
+// Plain record - no framework annotations
+public record SeedState(
+        String seedDigest,
+        String syncMode,
+        Instant syncedAt
+) {
+}
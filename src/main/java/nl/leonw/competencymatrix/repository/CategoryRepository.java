@@ -1,8 +1,10 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.NameNormalizer;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
 public class CategoryRepository {
 
     @Inject
@@ -71,11 +74,11 @@ public class CategoryRepository {
     }
 
     public Optional<CompetencyCategory> findByNameIgnoreCase(String name) {
-        String sql = "SELECT id, name, display_order FROM competency_category WHERE LOWER(TRIM(name)) = LOWER(TRIM(?))";
+        String sql = "SELECT id, name, display_order FROM competency_category WHERE name_normalized = ?";
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, name);
+            stmt.setString(1, NameNormalizer.normalize(name));
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return Optional.of(mapRow(rs));
@@ -150,6 +153,18 @@ public class CategoryRepository {
         }
     }
 
+    public int deleteById(Integer id) {
+        String sql = "DELETE FROM competency_category WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete category: " + id, e);
+        }
+    }
+
     public int deleteAll() {
         String sql = "DELETE FROM competency_category";
         try (Connection conn = dataSource.getConnection();
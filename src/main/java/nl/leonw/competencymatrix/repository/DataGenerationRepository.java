@@ -0,0 +1,77 @@
+package nl.leonw.competencymatrix.repository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.DataGeneration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The single data_generation row: a counter of committed data changes, shared by all instances on the database.
+ */
+@ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
+public class DataGenerationRepository {
+
+    @Inject
+    DataSource dataSource;
+
+    public DataGeneration find() {
+        String sql = "SELECT generation, changed_at FROM data_generation WHERE id = 1";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return new DataGeneration(rs.getLong("generation"),
+                        rs.getObject("changed_at", OffsetDateTime.class).toInstant());
+            }
+            throw new SQLException("data_generation row missing");
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch data generation", e);
+        }
+    }
+
+    /**
+     * Locks the row until the caller's transaction ends. Every sync takes this lock first, so syncs run one at a
+     * time, also across instances sharing the database; a second sync waits until the first has committed.
+     */
+    public void lock() {
+        String sql = "SELECT generation FROM data_generation WHERE id = 1 FOR UPDATE";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (!rs.next()) {
+                throw new SQLException("data_generation row missing");
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to lock data generation", e);
+        }
+    }
+
+    /**
+     * Bumps the generation in the caller's transaction, so other instances see it once the change is committed.
+     */
+    public void increment(Instant changedAt) {
+        String sql = "UPDATE data_generation SET generation = generation + 1, changed_at = ? WHERE id = 1";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, changedAt.atOffset(ZoneOffset.UTC));
+            if (stmt.executeUpdate() == 0) {
+                throw new SQLException("data_generation row missing");
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to increment data generation", e);
+        }
+    }
+}
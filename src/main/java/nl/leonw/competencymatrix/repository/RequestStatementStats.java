@@ -0,0 +1,31 @@
+package nl.leonw.competencymatrix.repository;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC statements executed during the current HTTP request and the time spent executing them,
+ * collected by {@link StatementCountingDataSource}.
+ */
+@RequestScoped
+public class RequestStatementStats {
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    void record(long nanos) {
+        statements.incrementAndGet();
+        elapsedNanos.addAndGet(nanos);
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public Duration dbTime() {
+        return Duration.ofNanos(elapsedNanos.get());
+    }
+}
@@ -1,5 +1,6 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import nl.leonw.competencymatrix.model.RoleProgression;
@@ -10,14 +11,33 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
 public class RoleProgressionRepository {
 
     @Inject
     DataSource dataSource;
 
+    public List<RoleProgression> findAll() {
+        String sql = "SELECT id, from_role_id, to_role_id FROM role_progression";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            List<RoleProgression> progressions = new ArrayList<>();
+            while (rs.next()) {
+                progressions.add(mapRow(rs));
+            }
+            return progressions;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch all progressions", e);
+        }
+    }
+
     public Optional<RoleProgression> findByFromRoleIdAndToRoleId(Integer fromRoleId, Integer toRoleId) {
         String sql = "SELECT id, from_role_id, to_role_id FROM role_progression WHERE from_role_id = ? AND to_role_id = ?";
         try (Connection conn = dataSource.getConnection();
@@ -101,6 +121,33 @@ public class RoleProgressionRepository {
         }
     }
 
+    public long count() {
+        String sql = "SELECT COUNT(*) FROM role_progression";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count progressions", e);
+        }
+    }
+
+    public int deleteById(Integer id) {
+        String sql = "DELETE FROM role_progression WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete progression: " + id, e);
+        }
+    }
+
     public int deleteAll() {
         String sql = "DELETE FROM role_progression";
         try (Connection conn = dataSource.getConnection();
@@ -1,7 +1,9 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.NameNormalizer;
 import nl.leonw.competencymatrix.model.Role;
 
 import javax.sql.DataSource;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
 public class RoleRepository {
 
     @Inject
@@ -92,11 +95,11 @@ public class RoleRepository {
     }
 
     public Optional<Role> findByNameIgnoreCase(String name) {
-        String sql = "SELECT id, name, description, role_family, seniority_order FROM rolename WHERE LOWER(TRIM(name)) = LOWER(TRIM(?))";
+        String sql = "SELECT id, name, description, role_family, seniority_order FROM rolename WHERE name_normalized = ?";
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, name);
+            stmt.setString(1, NameNormalizer.normalize(name));
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return Optional.of(mapRow(rs));
@@ -206,6 +209,33 @@ public class RoleRepository {
         }
     }
 
+    public long count() {
+        String sql = "SELECT COUNT(*) FROM rolename";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count roles", e);
+        }
+    }
+
+    public int deleteById(Integer id) {
+        String sql = "DELETE FROM rolename WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete role: " + id, e);
+        }
+    }
+
     public int deleteAll() {
         String sql = "DELETE FROM rolename";
         try (Connection conn = dataSource.getConnection();
@@ -1,7 +1,9 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
 import nl.leonw.competencymatrix.model.RoleSkillRequirement;
 
 import javax.sql.DataSource;
@@ -15,8 +17,12 @@ import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
 public class RoleSkillRequirementRepository {
 
+    // Rows per JDBC batch of the bulk writes used by the sync
+    static final int BATCH_SIZE = 500;
+
     @Inject
     DataSource dataSource;
 
@@ -93,14 +99,14 @@ public class RoleSkillRequirementRepository {
         }
     }
 
-    public Optional<RoleSkillRequirement> findByRoleIdAndSkillIdAndRequiredLevel(Integer roleId, Integer skillId, String requiredLevel) {
+    public Optional<RoleSkillRequirement> findByRoleIdAndSkillIdAndRequiredLevel(Integer roleId, Integer skillId, ProficiencyLevel requiredLevel) {
         String sql = "SELECT id, role_id, skill_id, required_level FROM role_skill_requirement WHERE role_id = ? AND skill_id = ? AND required_level = ?";
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, roleId);
             stmt.setInt(2, skillId);
-            stmt.setString(3, requiredLevel);
+            stmt.setShort(3, (short) requiredLevel.getOrdinalValue());
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return Optional.of(mapRow(rs));
@@ -127,7 +133,7 @@ public class RoleSkillRequirementRepository {
 
             stmt.setInt(1, requirement.roleId());
             stmt.setInt(2, requirement.skillId());
-            stmt.setString(3, requirement.requiredLevel());
+            stmt.setShort(3, (short) requirement.requiredLevel().getOrdinalValue());
 
             stmt.executeUpdate();
 
@@ -150,7 +156,7 @@ public class RoleSkillRequirementRepository {
 
             stmt.setInt(1, requirement.roleId());
             stmt.setInt(2, requirement.skillId());
-            stmt.setString(3, requirement.requiredLevel());
+            stmt.setShort(3, (short) requirement.requiredLevel().getOrdinalValue());
             stmt.setInt(4, requirement.id());
 
             int rowsAffected = stmt.executeUpdate();
@@ -163,6 +169,117 @@ public class RoleSkillRequirementRepository {
         }
     }
 
+    /**
+     * Inserts requirements in JDBC batches of {@link #BATCH_SIZE} rows. Generated ids are not read back.
+     *
+     * @return number of rows inserted
+     */
+    public int insertAll(List<RoleSkillRequirement> requirements) {
+        String sql = "INSERT INTO role_skill_requirement (role_id, skill_id, required_level) VALUES (?, ?, ?)";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int count = 0;
+            for (RoleSkillRequirement requirement : requirements) {
+                stmt.setInt(1, requirement.roleId());
+                stmt.setInt(2, requirement.skillId());
+                stmt.setShort(3, (short) requirement.requiredLevel().getOrdinalValue());
+                stmt.addBatch();
+                if (++count % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            if (count % BATCH_SIZE != 0) {
+                stmt.executeBatch();
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to insert requirements", e);
+        }
+    }
+
+    /**
+     * Updates the required level of existing requirements in JDBC batches of {@link #BATCH_SIZE} rows.
+     *
+     * @return number of rows updated
+     */
+    public int updateLevels(List<RoleSkillRequirement> requirements) {
+        String sql = "UPDATE role_skill_requirement SET required_level = ? WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int count = 0;
+            for (RoleSkillRequirement requirement : requirements) {
+                stmt.setShort(1, (short) requirement.requiredLevel().getOrdinalValue());
+                stmt.setInt(2, requirement.id());
+                stmt.addBatch();
+                if (++count % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            if (count % BATCH_SIZE != 0) {
+                stmt.executeBatch();
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update requirements", e);
+        }
+    }
+
+    /**
+     * Deletes requirements by id in JDBC batches of {@link #BATCH_SIZE} rows.
+     *
+     * @return number of ids deleted
+     */
+    public int deleteAllById(List<Integer> ids) {
+        String sql = "DELETE FROM role_skill_requirement WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int count = 0;
+            for (Integer id : ids) {
+                stmt.setInt(1, id);
+                stmt.addBatch();
+                if (++count % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            if (count % BATCH_SIZE != 0) {
+                stmt.executeBatch();
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete requirements", e);
+        }
+    }
+
+    public long count() {
+        String sql = "SELECT COUNT(*) FROM role_skill_requirement";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count requirements", e);
+        }
+    }
+
+    public int deleteById(Integer id) {
+        String sql = "DELETE FROM role_skill_requirement WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete requirement: " + id, e);
+        }
+    }
+
     public int deleteAll() {
         String sql = "DELETE FROM role_skill_requirement";
         try (Connection conn = dataSource.getConnection();
@@ -179,7 +296,7 @@ public class RoleSkillRequirementRepository {
                 rs.getInt("id"),
                 rs.getInt("role_id"),
                 rs.getInt("skill_id"),
-                rs.getString("required_level")
+                ProficiencyLevel.fromOrdinalValue(rs.getShort("required_level"))
         );
     }
 }
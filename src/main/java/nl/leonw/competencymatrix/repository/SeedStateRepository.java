@@ -0,0 +1,69 @@
+package nl.leonw.competencymatrix.repository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.SeedState;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * The single seed_state row: which seed the competency data was last synced from.
+ */
+@ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
+public class SeedStateRepository {
+
+    @Inject
+    DataSource dataSource;
+
+    public Optional<SeedState> find() {
+        String sql = "SELECT seed_digest, sync_mode, synced_at FROM seed_state WHERE id = 1";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return Optional.of(new SeedState(
+                        rs.getString("seed_digest"),
+                        rs.getString("sync_mode"),
+                        rs.getObject("synced_at", OffsetDateTime.class).toInstant()));
+            }
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch seed state", e);
+        }
+    }
+
+    public void save(SeedState state) {
+        String sql = "MERGE INTO seed_state (id, seed_digest, sync_mode, synced_at) KEY (id) VALUES (1, ?, ?, ?)";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, state.seedDigest());
+            stmt.setString(2, state.syncMode());
+            stmt.setObject(3, state.syncedAt().atOffset(ZoneOffset.UTC));
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save seed state", e);
+        }
+    }
+
+    public int delete() {
+        String sql = "DELETE FROM seed_state";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete seed state", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.NameNormalizer;
 import nl.leonw.competencymatrix.model.Skill;
 
 import javax.sql.DataSource;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
+@Timed(value = "competency.repository", description = "Repository call duration, tagged by class and method")
 public class SkillRepository {
 
     @Inject
@@ -40,6 +43,27 @@ public class SkillRepository {
         }
     }
 
+    /**
+     * Find all skills ordered by name, without their level descriptions (all null).
+     * Used to build the in-memory competency snapshot, which reads descriptions from SkillDescriptionStore.
+     */
+    public List<Skill> findAllHeadersOrderByName() {
+        String sql = "SELECT id, name, category_id FROM skill ORDER BY name";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            List<Skill> skills = new ArrayList<>();
+            while (rs.next()) {
+                skills.add(new Skill(rs.getInt("id"), rs.getString("name"), rs.getInt("category_id"),
+                        null, null, null, null));
+            }
+            return skills;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch all skills", e);
+        }
+    }
+
     public List<Skill> findByCategoryId(Integer categoryId) {
         String sql = "SELECT id, name, category_id, basic_description, decent_description, good_description, excellent_description FROM skill WHERE category_id = ? ORDER BY name";
         try (Connection conn = dataSource.getConnection();
@@ -75,6 +99,28 @@ public class SkillRepository {
         }
     }
 
+    /**
+     * Find a skill without its level descriptions (all null).
+     * Used by pages that read descriptions from SkillDescriptionStore instead.
+     */
+    public Optional<Skill> findHeaderById(Integer id) {
+        String sql = "SELECT id, name, category_id FROM skill WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new Skill(rs.getInt("id"), rs.getString("name"), rs.getInt("category_id"),
+                            null, null, null, null));
+                }
+                return Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch skill by id: " + id, e);
+        }
+    }
+
     public Optional<Skill> findByNameAndCategoryId(String name, Integer categoryId) {
         String sql = "SELECT id, name, category_id, basic_description, decent_description, good_description, excellent_description FROM skill WHERE name = ? AND category_id = ?";
         try (Connection conn = dataSource.getConnection();
@@ -94,12 +140,12 @@ public class SkillRepository {
     }
 
     public Optional<Skill> findByNameAndCategoryIdIgnoreCase(String name, Integer categoryId) {
-        String sql = "SELECT id, name, category_id, basic_description, decent_description, good_description, excellent_description FROM skill WHERE LOWER(TRIM(name)) = LOWER(TRIM(?)) AND category_id = ?";
+        String sql = "SELECT id, name, category_id, basic_description, decent_description, good_description, excellent_description FROM skill WHERE category_id = ? AND name_normalized = ?";
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, name);
-            stmt.setInt(2, categoryId);
+            stmt.setInt(1, categoryId);
+            stmt.setString(2, NameNormalizer.normalize(name));
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return Optional.of(mapRow(rs));
@@ -193,6 +239,18 @@ public class SkillRepository {
         }
     }
 
+    public int deleteById(Integer id) {
+        String sql = "DELETE FROM skill WHERE id = ?";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete skill: " + id, e);
+        }
+    }
+
     public int deleteAll() {
         String sql = "DELETE FROM skill";
         try (Connection conn = dataSource.getConnection();
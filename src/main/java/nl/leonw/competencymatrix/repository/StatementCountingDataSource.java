@@ -0,0 +1,148 @@
+package nl.leonw.competencymatrix.repository;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+/**
+ * DataSource used by the repositories: the Agroal pool, with every statement execution counted and
+ * timed in the {@link RequestStatementStats} of the current HTTP request and in the open
+ * {@link StatementTally} of the current thread, if any. Other executions pass through uncounted.
+ *
+ * <p>Connections and statements are wrapped in dynamic proxies; only the {@code execute*} methods of
+ * statements do extra work.</p>
+ */
+public class StatementCountingDataSource implements DataSource {
+
+    private final DataSource delegate;
+
+    StatementCountingDataSource(DataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Replaces the default DataSource for injection points of type {@link DataSource}; code asking for
+     * {@link AgroalDataSource} still gets the pool itself. Singleton rather than application scoped: a
+     * client proxy for {@link DataSource} would be generated in javax.sql, which the application class
+     * loader of an uber-jar cannot define.
+     */
+    @ApplicationScoped
+    static class Producer {
+
+        @Produces
+        @Alternative
+        @Priority(1)
+        @Singleton
+        DataSource dataSource(AgroalDataSource pool) {
+            return new StatementCountingDataSource(pool);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(delegate.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (result) {
+                        case CallableStatement statement -> wrap(statement, CallableStatement.class);
+                        case PreparedStatement statement -> wrap(statement, PreparedStatement.class);
+                        case Statement statement -> wrap(statement, Statement.class);
+                        case null, default -> result;
+                    };
+                });
+    }
+
+    private static <S extends Statement> S wrap(S statement, Class<S> type) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static void record(long nanos) {
+        StatementTally.record(nanos);
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            Arc.container().instance(RequestStatementStats.class).get().record(nanos);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package nl.leonw.competencymatrix.repository;
+
+/**
+ * Counts JDBC statements executed through {@link StatementCountingDataSource} on the current thread
+ * while open, for work that runs outside an HTTP request, such as a sync.
+ * Opening a tally while one is already open on the thread returns that one, so nested callers
+ * share a single count; it stops counting when the outermost caller closes it.
+ */
+public final class StatementTally implements AutoCloseable {
+
+    private static final ThreadLocal<StatementTally> CURRENT = new ThreadLocal<>();
+
+    private int depth = 1;
+    private int statements;
+    private long elapsedNanos;
+
+    private StatementTally() {
+    }
+
+    public static StatementTally open() {
+        StatementTally current = CURRENT.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+        current = new StatementTally();
+        CURRENT.set(current);
+        return current;
+    }
+
+    static void record(long nanos) {
+        StatementTally current = CURRENT.get();
+        if (current != null) {
+            current.statements++;
+            current.elapsedNanos += nanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public void close() {
+        if (--depth == 0) {
+            CURRENT.remove();
+        }
+    }
+}
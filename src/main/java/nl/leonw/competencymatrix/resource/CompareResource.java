@@ -2,7 +2,8 @@ package nl.leonw.competencymatrix.resource;
 
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -14,7 +15,11 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.service.CompetencyModel;
 import nl.leonw.competencymatrix.service.CompetencyService;
+import nl.leonw.competencymatrix.service.CompetencyService.RoleComparison;
+
+import java.util.List;
 
 @Path("/compare")
 public class CompareResource {
@@ -29,39 +34,60 @@ public class CompareResource {
     @Inject
     CompetencyService competencyService;
 
+    @Inject
+    CompetencyModel competencyModel;
+
     @GET
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance compare(@QueryParam("from") Integer from,
-                                    @QueryParam("to") Integer to,
-                                    @CookieParam("theme") @DefaultValue("light") String theme) {
-        Role fromRole = competencyService.getRoleById(from)
-                .orElseThrow(() -> new NotFoundException("From role not found"));
-        Role toRole = competencyService.getRoleById(to)
-                .orElseThrow(() -> new NotFoundException("To role not found"));
+    @NonBlocking
+    public Uni<TemplateInstance> compare(@QueryParam("from") Integer from,
+                                         @QueryParam("to") Integer to,
+                                         @CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> snapshot.role(from).flatMap(fromRole -> snapshot.role(to).map(toRole ->
+                        compare(fromRole, toRole, snapshot.roles(), theme))),
+                () -> {
+                    Role fromRole = competencyService.getRoleById(from)
+                            .orElseThrow(() -> new NotFoundException("From role not found"));
+                    Role toRole = competencyService.getRoleById(to)
+                            .orElseThrow(() -> new NotFoundException("To role not found"));
+                    return compare(fromRole, toRole, competencyService.getAllRoles(), theme);
+                });
+    }
 
+    @GET
+    @Path("skills")
+    @Produces(MediaType.TEXT_HTML)
+    @NonBlocking
+    public Uni<TemplateInstance> compareSkills(@QueryParam("from") Integer from,
+                                              @QueryParam("to") Integer to,
+                                              @HeaderParam("HX-Request") String hxRequest,
+                                              @CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> snapshot.role(from).flatMap(fromRole -> snapshot.role(to).map(toRole ->
+                        comparisonTable(snapshot.comparison(from, to), fromRole, toRole, theme))),
+                () -> {
+                    Role fromRole = competencyService.getRoleById(from)
+                            .orElseThrow(() -> new NotFoundException("From role not found"));
+                    Role toRole = competencyService.getRoleById(to)
+                            .orElseThrow(() -> new NotFoundException("To role not found"));
+                    return comparisonTable(RoleComparison.of(competencyService.compareRoles(from, to)), fromRole, toRole,
+                            theme);
+                });
+    }
+
+    private TemplateInstance compare(Role fromRole, Role toRole, List<Role> allRoles, String theme) {
         return compare
                 .data("fromRole", fromRole)
                 .data("toRole", toRole)
-                .data("allRoles", competencyService.getAllRoles())
+                .data("allRoles", allRoles)
                 .data("theme", theme);
     }
 
-    @GET
-    @Path("skills")
-    @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance compareSkills(@QueryParam("from") Integer from,
-                                         @QueryParam("to") Integer to,
-                                         @HeaderParam("HX-Request") String hxRequest,
-                                         @CookieParam("theme") @DefaultValue("light") String theme) {
-        Role fromRole = competencyService.getRoleById(from)
-                .orElseThrow(() -> new NotFoundException("From role not found"));
-        Role toRole = competencyService.getRoleById(to)
-                .orElseThrow(() -> new NotFoundException("To role not found"));
-
+    private TemplateInstance comparisonTable(RoleComparison comparison, Role fromRole, Role toRole, String theme) {
         return comparisonTable
-                .data("comparisons", competencyService.compareRoles(from, to))
+                .data("comparisons", comparison.skills())
+                .data("summary", comparison)
                 .data("fromRole", fromRole)
                 .data("toRole", toRole)
                 .data("theme", theme);
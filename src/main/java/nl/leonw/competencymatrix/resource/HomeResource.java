@@ -2,7 +2,8 @@ package nl.leonw.competencymatrix.resource;
 
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -13,8 +14,13 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.service.CompetencyModel;
 import nl.leonw.competencymatrix.service.CompetencyService;
 
+import java.util.List;
+import java.util.Optional;
+
 @Path("/")
 public class HomeResource {
 
@@ -24,19 +30,28 @@ public class HomeResource {
     @Inject
     CompetencyService competencyService;
 
+    @Inject
+    CompetencyModel competencyModel;
+
     @GET
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance home(@CookieParam("theme") @DefaultValue("light") String theme) {
+    @NonBlocking
+    public Uni<TemplateInstance> home(@CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> Optional.of(index(snapshot.roles(), theme)),
+                () -> index(competencyService.getAllRoles(), theme));
+    }
+
+    private TemplateInstance index(List<Role> roles, String theme) {
         return index
-                .data("roles", competencyService.getAllRoles())
+                .data("roles", roles)
                 .data("theme", theme);
     }
 
     @POST
     @Path("theme")
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
+    @NonBlocking
     public Response toggleTheme(@CookieParam("theme") @DefaultValue("light") String currentTheme) {
         String newTheme = "dark".equals(currentTheme) ? "light" : "dark";
         NewCookie cookie = new NewCookie.Builder("theme")
@@ -3,6 +3,9 @@ package nl.leonw.competencymatrix.resource;
 import io.quarkus.qute.Location;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -13,18 +16,30 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ServiceUnavailableException;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import nl.leonw.competencymatrix.config.CompetencySyncService;
+import nl.leonw.competencymatrix.config.SyncPlan;
 import nl.leonw.competencymatrix.config.SyncResult;
 import nl.leonw.competencymatrix.dto.MatrixViewModel;
+import nl.leonw.competencymatrix.service.CompetencyModel;
 import nl.leonw.competencymatrix.service.CompetencyService;
+import nl.leonw.competencymatrix.service.CompetencySnapshot;
+import nl.leonw.competencymatrix.service.MatrixCsvWriter;
+import nl.leonw.competencymatrix.service.ReloadJob;
+import nl.leonw.competencymatrix.service.ReloadJobService;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+
 /**
  * REST resource for matrix overview page. Feature: 004-matrix-overview Task: T021 - Matrix overview endpoint
  */
@@ -39,20 +54,28 @@ public class MatrixOverviewResource {
 
     CompetencyService competencyService;
 
+    CompetencyModel competencyModel;
+
     CompetencySyncService competencySyncService;
 
+    ReloadJobService reloadJobService;
+
     boolean allowReload;
 
     public MatrixOverviewResource(Template matrixOverview,
         @Location("fragments/matrix-tooltip") Template matrixTooltip,
         CompetencyService competencyService,
+        CompetencyModel competencyModel,
         CompetencySyncService competencySyncService,
+        ReloadJobService reloadJobService,
         @ConfigProperty(name = "competence.sync.allow.reload", defaultValue = "false") boolean allowReload
     ) {
         this.matrixOverview = matrixOverview;
         this.matrixTooltip = matrixTooltip;
         this.competencyService = competencyService;
+        this.competencyModel = competencyModel;
         this.competencySyncService = competencySyncService;
+        this.reloadJobService = reloadJobService;
         this.allowReload = allowReload;
     }
 
@@ -66,6 +89,7 @@ public class MatrixOverviewResource {
      */
     @GET
     @Produces(MediaType.TEXT_HTML)
+    @RunOnVirtualThread
     public TemplateInstance getMatrixOverview(@QueryParam("category") Integer categoryId,
         @CookieParam("theme") @DefaultValue("light") String theme) {
         MatrixViewModel matrix = competencyService.buildMatrixViewModel(categoryId);
@@ -77,6 +101,27 @@ public class MatrixOverviewResource {
             .data("allowReload", allowReload);
     }
 
+    /**
+     * Download the matrix as CSV, with the same optional category filter as the page. Rows are streamed from the
+     * in-memory model while they are written, so the download starts at once and memory use does not grow with
+     * the size of the matrix.
+     *
+     * @param categoryId Optional category ID to filter skills (null = all skills)
+     * @return CSV attachment
+     */
+    @GET
+    @Path("export.csv")
+    @Produces("text/csv")
+    @RunOnVirtualThread
+    public Response exportCsv(@QueryParam("category") Integer categoryId) {
+        CompetencySnapshot snapshot = competencyModel.currentOrLoad()
+            .orElseThrow(() -> new ServiceUnavailableException("Competency data not loaded"));
+        StreamingOutput csv = output -> MatrixCsvWriter.write(snapshot, categoryId, output);
+        return Response.ok(csv, "text/csv; charset=UTF-8")
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"competency-matrix.csv\"")
+            .build();
+    }
+
     /**
      * Get tooltip content for a skill showing all proficiency levels. Task: T032 - Tooltip endpoint for User Story 2
      *
@@ -88,12 +133,10 @@ public class MatrixOverviewResource {
     @GET
     @Path("tooltips/skill/{skillId}")
     @Produces(MediaType.TEXT_HTML)
-    public TemplateInstance getSkillTooltip(@PathParam("skillId") Integer skillId,
+    @NonBlocking
+    public Uni<TemplateInstance> getSkillTooltip(@PathParam("skillId") Integer skillId,
         @QueryParam("level") String level,
         @CookieParam("theme") @DefaultValue("light") String theme) {
-        nl.leonw.competencymatrix.model.Skill skill = competencyService.getSkillById(skillId)
-            .orElseThrow(() -> new NotFoundException("Skill not found: " + skillId));
-
         // Parse the current level for highlighting
         nl.leonw.competencymatrix.model.ProficiencyLevel currentLevel;
         try {
@@ -102,80 +145,154 @@ public class MatrixOverviewResource {
             throw new BadRequestException("Invalid proficiency level: " + level);
         }
 
+        return competencyModel.serve(
+            snapshot -> snapshot.skill(skillId).map(skill -> skillTooltip(skill, currentLevel, theme)),
+            () -> skillTooltip(competencyService.getSkillSummaryById(skillId)
+                .orElseThrow(() -> new NotFoundException("Skill not found: " + skillId)), currentLevel, theme));
+    }
+
+    private TemplateInstance skillTooltip(nl.leonw.competencymatrix.model.Skill skill,
+        nl.leonw.competencymatrix.model.ProficiencyLevel currentLevel, String theme) {
         // Pass all levels to the template
         return matrixTooltip
             .data("skill", skill)
+            .data("descriptions", competencyService.getSkillDescriptions(skill.id()))
             .data("currentLevel", currentLevel)
             .data("levels", nl.leonw.competencymatrix.model.ProficiencyLevel.values())
             .data("theme", theme);
     }
 
     /**
-     * Reload the database from seed files. Deletes all existing competency data and reloads from YAML files. Returns
-     * JSON response with sync results.
+     * Start reloading the database from seed files. The sync runs as a background job; the response returns
+     * immediately with status 202 and the job id. A reload requested while another one is running joins that job.
      *
-     * @param headers HTTP headers for theme preference
-     * @return JSON response with success status and sync details
+     * @return 202 response with the job id and the URLs for status and progress events
      */
     @POST
     @Path("reload")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response reloadDatabase(@Context HttpHeaders headers) {
-        try {
-            // Reload from seed files using REPLACE mode
-            SyncResult result = competencySyncService.syncFromConfiguration();
+    @RunOnVirtualThread
+    public Response reloadDatabase() {
+        ReloadJobService.Submission submission = reloadJobService.submit();
+        String jobId = submission.job().id();
+        String statusUrl = "/matrix/reload/jobs/" + jobId;
+
+        ReloadJobResponse response = new ReloadJobResponse(
+            true,
+            submission.coalesced() ? "Reload already running" : "Reload started",
+            jobId,
+            submission.coalesced(),
+            statusUrl,
+            statusUrl + "/events"
+        );
 
-            // Return success response with details
-            ReloadResponse response = new ReloadResponse(
+        return Response.accepted(response)
+            .location(URI.create(statusUrl))
+            .build();
+    }
+
+    /**
+     * Status of a reload job: state, completed phases and, once finished, the sync result or error.
+     *
+     * @param jobId id returned by {@link #reloadDatabase()}
+     * @return JSON job status
+     */
+    @GET
+    @Path("reload/jobs/{jobId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RunOnVirtualThread
+    public ReloadJob.Status getReloadJob(@PathParam("jobId") String jobId) {
+        return findReloadJob(jobId).status();
+    }
+
+    /**
+     * Server-Sent Events stream of a reload job. Sends a "phase" event per completed sync phase (with row count
+     * and elapsed time), then "completed" or "failed" with the final job status, and closes the stream.
+     * Clients connecting late receive the earlier events first.
+     *
+     * @param jobId id returned by {@link #reloadDatabase()}
+     */
+    @GET
+    @Path("reload/jobs/{jobId}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RunOnVirtualThread
+    public void streamReloadJob(@PathParam("jobId") String jobId, @Context SseEventSink sink, @Context Sse sse) {
+        ReloadJob job = findReloadJob(jobId);
+        job.subscribe(new ReloadJob.Subscriber() {
+            @Override
+            public void onEvent(ReloadJob.Event event) {
+                if (sink.isClosed()) {
+                    throw new IllegalStateException("Event stream closed");
+                }
+                sink.send(sse.newEventBuilder()
+                    .name(event.name())
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(event.data())
+                    .build());
+            }
+
+            @Override
+            public void onComplete() {
+                sink.close();
+            }
+        });
+    }
+
+    /**
+     * Compute the changes a reload would make without applying them. Uses the configured sync mode and the same
+     * seed data as {@link #reloadDatabase()}.
+     *
+     * @return JSON response with the change summary and the full change plan
+     */
+    @GET
+    @Path("reload/dry-run")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RunOnVirtualThread
+    public Response reloadDryRun() {
+        try {
+            SyncPlan plan = competencySyncService.planFromConfiguration();
+            DryRunResponse response = new DryRunResponse(
                 true,
-                "Database reloaded successfully",
-                new ReloadDetails(
-                    result.categoriesAdded() + result.categoriesUpdated(),
-                    result.skillsAdded() + result.skillsUpdated(),
-                    result.rolesAdded() + result.rolesUpdated(),
-                    result.requirementsAdded() + result.requirementsUpdated(),
-                    result.progressionsAdded() + result.progressionsUpdated()
-                )
+                plan.isEmpty() ? "Database is up to date" : plan.changeCount() + " changes pending",
+                plan.toResult(),
+                plan
             );
-
             return Response.ok(response).build();
         } catch (Exception e) {
-            // Log error and return failure response
-            System.err.println("Database reload failed: " + e.getMessage());
-            e.printStackTrace();
-
-            ReloadResponse response = new ReloadResponse(
-                false,
-                "Database reload failed: " + e.getMessage(),
-                null
-            );
-
+            LOGGER.error("Reload dry-run failed", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity(response)
+                .entity(new DryRunResponse(false, "Reload dry-run failed: " + e.getMessage(), null, null))
                 .build();
         }
     }
 
+    private ReloadJob findReloadJob(String jobId) {
+        return reloadJobService.find(jobId)
+            .orElseThrow(() -> new NotFoundException("Reload job not found: " + jobId));
+    }
+
     /**
-     * Response DTO for database reload operation.
+     * Response DTO for starting a database reload.
      */
-    public record ReloadResponse(
+    public record ReloadJobResponse(
         boolean success,
         String message,
-        ReloadDetails details
+        String jobId,
+        boolean coalesced,
+        String statusUrl,
+        String eventsUrl
     ) {
 
     }
 
     /**
-     * Details about the reload operation.
+     * Response DTO for reload dry-run operation.
      */
-    public record ReloadDetails(
-        int categoriesProcessed,
-        int skillsProcessed,
-        int rolesProcessed,
-        int requirementsProcessed,
-        int progressionsProcessed
+    public record DryRunResponse(
+        boolean success,
+        String message,
+        SyncResult summary,
+        SyncPlan plan
     ) {
 
     }
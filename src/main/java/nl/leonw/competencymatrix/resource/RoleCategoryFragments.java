@@ -0,0 +1,127 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.quarkus.qute.Location;
+import io.quarkus.qute.Template;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.service.CompetencyModel;
+import nl.leonw.competencymatrix.service.CompetencyModelLoaded;
+import nl.leonw.competencymatrix.service.CompetencySnapshot;
+import nl.leonw.competencymatrix.service.SkillDescriptionStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code fragments/category-section} output of every role, rendered once per {@link CompetencySnapshot}
+ * instead of on every htmx load. The fragment only depends on the role, so there is one per role.
+ *
+ * <p>The whole set is rendered when the model is loaded and replaced at once; it is only served while its
+ * snapshot is the current one, so a failed render or model reload never serves fragments from other data.</p>
+ */
+@ApplicationScoped
+public class RoleCategoryFragments {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleCategoryFragments.class);
+
+    static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    /**
+     * Rendered fragment with a strong ETag over its bytes.
+     */
+    record Fragment(byte[] html, EntityTag etag) {
+
+        /**
+         * 304 when the request's If-None-Match matches, else the fragment.
+         */
+        Response response(Request request) {
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            if (notModified != null) {
+                return notModified.cacheControl(revalidate()).build();
+            }
+            return Response.ok(html, CONTENT_TYPE).tag(etag).cacheControl(revalidate()).build();
+        }
+    }
+
+    private record Fragments(CompetencySnapshot snapshot, Map<Integer, Fragment> byRole) {
+    }
+
+    @Inject
+    @Location("fragments/category-section")
+    Template categorySection;
+
+    @Inject
+    SkillDescriptionStore descriptionStore;
+
+    @Inject
+    CompetencyModel competencyModel;
+
+    private volatile Fragments fragments;
+
+    void onModelLoaded(@Observes CompetencyModelLoaded event) {
+        CompetencySnapshot snapshot = event.snapshot();
+        try {
+            Map<Integer, Fragment> byRole = new HashMap<>();
+            for (Role role : snapshot.roles()) {
+                byRole.put(role.id(), render(snapshot, role.id()));
+            }
+            fragments = new Fragments(snapshot, Map.copyOf(byRole));
+            log.debug("Rendered role category fragments for {} roles", byRole.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to render role category fragments; rendering per request until the next load", e);
+            fragments = null;
+        }
+    }
+
+    /**
+     * Pre-rendered fragment of a role, if there is one for the current model.
+     */
+    Optional<Fragment> get(int roleId) {
+        Fragments current = fragments;
+        if (current == null || current.snapshot() != competencyModel.current().orElse(null)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.byRole().get(roleId));
+    }
+
+    private Fragment render(CompetencySnapshot snapshot, int roleId) {
+        byte[] html = categorySection
+                .data("skillsByCategory", snapshot.skillsByCategoryForRole(roleId, descriptionStore))
+                .data("roleId", roleId)
+                .render()
+                .getBytes(UTF_8);
+        return new Fragment(html, new EntityTag(sha256(html)));
+    }
+
+    /**
+     * Browsers may keep the fragment but must check the ETag before using it, so a reload shows up at once.
+     */
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,7 +2,8 @@ package nl.leonw.competencymatrix.resource;
 
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -12,11 +13,22 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
 import nl.leonw.competencymatrix.model.ProficiencyLevel;
 import nl.leonw.competencymatrix.model.Role;
 import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.service.CompetencyModel;
 import nl.leonw.competencymatrix.service.CompetencyService;
+import nl.leonw.competencymatrix.service.CompetencyService.SkillWithRequirement;
+import nl.leonw.competencymatrix.service.SkillDescriptionStore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Path("/roles")
 public class RoleResource {
@@ -35,55 +47,100 @@ public class RoleResource {
     @Inject
     CompetencyService competencyService;
 
+    @Inject
+    CompetencyModel competencyModel;
+
+    @Inject
+    SkillDescriptionStore descriptionStore;
+
+    @Inject
+    RoleCategoryFragments roleCategoryFragments;
+
     @GET
     @Path("{id}")
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance roleDetail(@PathParam("id") Integer id,
-                                      @CookieParam("theme") @DefaultValue("light") String theme) {
-        Role roleEntity = competencyService.getRoleById(id)
-                .orElseThrow(() -> new NotFoundException("Role not found"));
-
-        return role
-                .data("role", roleEntity)
-                .data("nextRoles", competencyService.getNextRoles(id))
-                .data("previousRoles", competencyService.getPreviousRoles(id))
-                .data("theme", theme);
+    @NonBlocking
+    public Uni<TemplateInstance> roleDetail(@PathParam("id") Integer id,
+                                           @CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> snapshot.role(id).map(roleEntity ->
+                        roleDetail(roleEntity, snapshot.nextRoles(id), snapshot.previousRoles(id), theme)),
+                () -> {
+                    Role roleEntity = competencyService.getRoleById(id)
+                            .orElseThrow(() -> new NotFoundException("Role not found"));
+                    return roleDetail(roleEntity, competencyService.getNextRoles(id),
+                            competencyService.getPreviousRoles(id), theme);
+                });
     }
 
+    /**
+     * Served from {@link RoleCategoryFragments} with its ETag; rendered per request only for roles it does not
+     * have (before the model is loaded, or written outside a sync).
+     */
     @GET
     @Path("{id}/categories")
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance roleCategories(@PathParam("id") Integer id,
-                                          @HeaderParam("HX-Request") String hxRequest,
-                                          @CookieParam("theme") @DefaultValue("light") String theme) {
-        Role roleEntity = competencyService.getRoleById(id)
-                .orElseThrow(() -> new NotFoundException("Role not found"));
-
-        return categorySection
-                .data("skillsByCategory", competencyService.getSkillsByCategoryForRole(id))
-                .data("roleId", id)
-                .data("theme", theme);
+    @NonBlocking
+    public Uni<Response> roleCategories(@PathParam("id") Integer id,
+                                       @HeaderParam("HX-Request") String hxRequest,
+                                       @CookieParam("theme") @DefaultValue("light") String theme,
+                                       @Context Request request) {
+        Optional<RoleCategoryFragments.Fragment> fragment = roleCategoryFragments.get(id);
+        if (fragment.isPresent()) {
+            return Uni.createFrom().item(fragment.get().response(request));
+        }
+        return competencyModel.serve(
+                snapshot -> snapshot.role(id).map(roleEntity ->
+                        categorySection(snapshot.skillsByCategoryForRole(id, descriptionStore), id, theme)),
+                () -> {
+                    competencyService.getRoleById(id)
+                            .orElseThrow(() -> new NotFoundException("Role not found"));
+                    return categorySection(competencyService.getSkillsByCategoryForRole(id), id, theme);
+                }).map(html -> Response.ok(html.render(), RoleCategoryFragments.CONTENT_TYPE).build());
     }
 
     @GET
     @Path("{roleId}/skills/{skillId}")
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance skillDetail(@PathParam("roleId") Integer roleId,
-                                       @PathParam("skillId") Integer skillId,
-                                       @HeaderParam("HX-Request") String hxRequest,
-                                       @CookieParam("theme") @DefaultValue("light") String theme) {
-        Skill skill = competencyService.getSkillById(skillId)
-                .orElseThrow(() -> new NotFoundException("Skill not found"));
+    @NonBlocking
+    public Uni<TemplateInstance> skillDetail(@PathParam("roleId") Integer roleId,
+                                            @PathParam("skillId") Integer skillId,
+                                            @HeaderParam("HX-Request") String hxRequest,
+                                            @CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> snapshot.skill(skillId).map(skill ->
+                        skillModal(skill, snapshot.requiredLevel(roleId, skillId).orElse(null), theme)),
+                () -> {
+                    Skill skill = competencyService.getSkillSummaryById(skillId)
+                            .orElseThrow(() -> new NotFoundException("Skill not found"));
+                    ProficiencyLevel requiredLevel = competencyService.getRequirementForRoleAndSkill(roleId, skillId)
+                            .map(req -> req.requiredLevel())
+                            .orElse(null);
+                    return skillModal(skill, requiredLevel, theme);
+                });
+    }
+
+    private TemplateInstance roleDetail(Role roleEntity, List<Role> nextRoles, List<Role> previousRoles,
+                                        String theme) {
+        return role
+                .data("role", roleEntity)
+                .data("nextRoles", nextRoles)
+                .data("previousRoles", previousRoles)
+                .data("theme", theme);
+    }
 
-        ProficiencyLevel requiredLevel = competencyService.getRequirementForRoleAndSkill(roleId, skillId)
-                .map(req -> req.getProficiencyLevel())
-                .orElse(null);
+    private TemplateInstance categorySection(Map<CompetencyCategory, List<SkillWithRequirement>> skillsByCategory,
+                                             Integer roleId, String theme) {
+        return categorySection
+                .data("skillsByCategory", skillsByCategory)
+                .data("roleId", roleId)
+                .data("theme", theme);
+    }
 
+    private TemplateInstance skillModal(Skill skill, ProficiencyLevel requiredLevel, String theme) {
         return skillModal
                 .data("skill", skill)
+                .data("descriptions", competencyService.getSkillDescriptions(skill.id()))
                 .data("requiredLevel", requiredLevel)
                 .data("levels", ProficiencyLevel.values())
                 .data("theme", theme);
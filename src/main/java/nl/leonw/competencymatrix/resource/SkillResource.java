@@ -2,7 +2,9 @@ package nl.leonw.competencymatrix.resource;
 
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -13,8 +15,14 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
 import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.service.CompetencyModel;
 import nl.leonw.competencymatrix.service.CompetencyService;
+import nl.leonw.competencymatrix.service.SkillDescriptionStore;
+
+import java.util.List;
+import java.util.Map;
 
 @Path("/skills")
 public class SkillResource {
@@ -28,9 +36,19 @@ public class SkillResource {
     @Inject
     CompetencyService competencyService;
 
+    @Inject
+    CompetencyModel competencyModel;
+
+    @Inject
+    SkillDescriptionStore descriptionStore;
+
+    /**
+     * The overview renders all level descriptions of every skill, so it runs on a virtual thread rather than the
+     * event loop. It still reads from the in-memory model when that is loaded.
+     */
     @GET
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
+    @RunOnVirtualThread
     public TemplateInstance skillsOverview(@QueryParam("category") @DefaultValue("") String categoryId,
                                            @CookieParam("theme") @DefaultValue("light") String theme) {
         Integer categoryFilter = null;
@@ -42,24 +60,39 @@ public class SkillResource {
             }
         }
 
-        return skills
-                .data("skillsByCategory", competencyService.getAllSkillsByCategory(categoryFilter))
-                .data("categories", competencyService.getAllCategories())
-                .data("selectedCategoryId", categoryFilter != null ? categoryFilter.toString() : "")
-                .data("theme", theme);
+        Integer filter = categoryFilter;
+        return competencyModel.currentOrLoad()
+                .map(snapshot -> skills(snapshot.allSkillsByCategory(filter, descriptionStore),
+                        snapshot.categories(), filter, theme))
+                .orElseGet(() -> skills(competencyService.getAllSkillsByCategory(filter),
+                        competencyService.getAllCategories(), filter, theme));
     }
 
     @GET
     @Path("{id}")
     @Produces(MediaType.TEXT_HTML)
-    @Blocking
-    public TemplateInstance skillDetail(@PathParam("id") Integer id,
-                                   @CookieParam("theme") @DefaultValue("light") String theme) {
-        Skill skillEntity = competencyService.getSkillById(id)
-                .orElseThrow(() -> new NotFoundException("Skill not found"));
+    @NonBlocking
+    public Uni<TemplateInstance> skillDetail(@PathParam("id") Integer id,
+                                        @CookieParam("theme") @DefaultValue("light") String theme) {
+        return competencyModel.serve(
+                snapshot -> snapshot.skill(id).map(skillEntity -> skill(skillEntity, theme)),
+                () -> skill(competencyService.getSkillSummaryById(id)
+                        .orElseThrow(() -> new NotFoundException("Skill not found")), theme));
+    }
+
+    private TemplateInstance skills(Map<CompetencyCategory, List<Skill>> skillsByCategory,
+                                    List<CompetencyCategory> categories, Integer categoryFilter, String theme) {
+        return skills
+                .data("skillsByCategory", skillsByCategory)
+                .data("categories", categories)
+                .data("selectedCategoryId", categoryFilter != null ? categoryFilter.toString() : "")
+                .data("theme", theme);
+    }
 
+    private TemplateInstance skill(Skill skillEntity, String theme) {
         return skill
                 .data("skill", skillEntity)
+                .data("descriptions", competencyService.getSkillDescriptions(skillEntity.id()))
                 .data("theme", theme);
     }
 }
\ No newline at end of file
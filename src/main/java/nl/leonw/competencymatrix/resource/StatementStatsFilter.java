@@ -0,0 +1,101 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import nl.leonw.competencymatrix.repository.RequestStatementStats;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports the JDBC statements of each request, as counted in {@link RequestStatementStats}:
+ * competency.db.statements and competency.db.time per route, X-DB-Statements/X-DB-Time-Ms response
+ * headers when competency.db.stats.headers is on (dev and test), and a warning when a request runs
+ * more statements than competency.db.statement-budget, which usually means a query inside a loop.
+ */
+public class StatementStatsFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatsFilter.class);
+
+    static final String STATEMENTS_HEADER = "X-DB-Statements";
+    static final String DB_TIME_HEADER = "X-DB-Time-Ms";
+
+    private final Map<Method, String> routes = new ConcurrentHashMap<>();
+
+    @Inject
+    RequestStatementStats stats;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "competency.db.stats.headers", defaultValue = "false")
+    boolean headers;
+
+    @ConfigProperty(name = "competency.db.statement-budget", defaultValue = "25")
+    int statementBudget;
+
+    @ServerResponseFilter
+    public void report(ContainerRequestContext request, ContainerResponseContext response, ResourceInfo resourceInfo) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method == null) {
+            return;
+        }
+        String route = routes.computeIfAbsent(method, StatementStatsFilter::route);
+        int statements = stats.statements();
+
+        DistributionSummary.builder("competency.db.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("competency.db.time")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(stats.dbTime());
+
+        if (headers) {
+            response.getHeaders().putSingle(STATEMENTS_HEADER, statements);
+            response.getHeaders().putSingle(DB_TIME_HEADER, stats.dbTime().toNanos() / 1_000_000.0);
+        }
+        if (statements > statementBudget) {
+            log.warn("{} ran {} JDBC statements (budget {}); look for queries in a loop",
+                    request.getUriInfo().getPath(), statements, statementBudget);
+        }
+    }
+
+    /**
+     * Route template of a resource method, e.g. "GET /roles/{id}/categories".
+     */
+    private static String route(Method method) {
+        String httpMethod = "";
+        for (Annotation annotation : method.getAnnotations()) {
+            HttpMethod designator = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (designator != null) {
+                httpMethod = designator.value();
+            }
+        }
+        String path = path(method.getDeclaringClass().getAnnotation(Path.class)) + path(method.getAnnotation(Path.class));
+        return httpMethod + " " + (path.isEmpty() ? "/" : path);
+    }
+
+    private static String path(Path path) {
+        if (path == null || path.value().isEmpty() || path.value().equals("/")) {
+            return "";
+        }
+        return path.value().startsWith("/") ? path.value() : "/" + path.value();
+    }
+}
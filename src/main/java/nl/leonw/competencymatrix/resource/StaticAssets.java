@@ -0,0 +1,167 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.netty.buffer.Unpooled;
+import io.quarkus.runtime.LaunchMode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Serves the fingerprinted assets written at build time by {@code AssetCompiler} under /assets/, and gives
+ * templates their URLs: {@code {cdi:assets.url('css/theme.css')}}.
+ *
+ * <p>A hashed name never changes content, so responses are cacheable forever ({@code immutable}). The brotli
+ * or gzip variant is chosen from Accept-Encoding. All variants are loaded once into direct buffers and
+ * written to the connection as they are, without compressing or copying per request.</p>
+ *
+ * <p>Without a manifest (e.g. in dev mode, where the build step does not run) URLs point to the originals
+ * under their fixed names.</p>
+ */
+@ApplicationScoped
+@Named("assets")
+public class StaticAssets {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssets.class);
+
+    public static final String DIRECTORY = "assets";
+    public static final String MANIFEST = DIRECTORY + "/manifest.properties";
+
+    static final String PATH = "/" + DIRECTORY + "/";
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "css", "text/css; charset=UTF-8",
+            "js", "text/javascript; charset=UTF-8");
+
+    /**
+     * One fingerprinted asset; gzip and brotli are null when the build did not write them.
+     */
+    record Asset(String contentType, Buffer identity, Buffer gzip, Buffer brotli) {
+    }
+
+    private final Map<String, String> urls = new HashMap<>();
+    private final Map<String, Asset> assets = new HashMap<>();
+
+    @PostConstruct
+    void loadManifest() {
+        Properties manifest = new Properties();
+        try (InputStream in = resource(MANIFEST)) {
+            if (in == null || LaunchMode.current() == LaunchMode.DEVELOPMENT) {
+                return;
+            }
+            manifest.load(in);
+            for (String path : manifest.stringPropertyNames()) {
+                String hashed = manifest.getProperty(path);
+                String extension = hashed.substring(hashed.lastIndexOf('.') + 1);
+                String prefix = DIRECTORY + "/" + hashed;
+                assets.put(hashed, new Asset(CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"),
+                        load(prefix), load(prefix + ".gz"), load(prefix + ".br")));
+                urls.put(path, PATH + hashed);
+            }
+            log.debug("Loaded {} fingerprinted assets", assets.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + MANIFEST, e);
+        }
+    }
+
+    void registerRoute(@Observes Router router) {
+        router.get(PATH + "*").handler(this::serve);
+        router.head(PATH + "*").handler(this::serve);
+    }
+
+    /**
+     * URL of an asset, e.g. {@code css/theme.css} becomes {@code /assets/css/theme.<hash>.css}.
+     */
+    public String url(String path) {
+        return urls.getOrDefault(path, "/" + path);
+    }
+
+    private void serve(RoutingContext context) {
+        Asset asset = assets.get(context.normalizedPath().substring(PATH.length()));
+        if (asset == null) {
+            context.next();
+            return;
+        }
+        String encoding = negotiate(context.request().getHeader(HttpHeaders.ACCEPT_ENCODING),
+                asset.brotli() != null, asset.gzip() != null);
+        HttpServerResponse response = context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, asset.contentType())
+                .putHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .putHeader(HttpHeaders.VARY, "Accept-Encoding");
+        Buffer body = switch (encoding) {
+            case "br" -> asset.brotli();
+            case "gzip" -> asset.gzip();
+            default -> asset.identity();
+        };
+        if (!encoding.equals("identity")) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.end(body);
+    }
+
+    /**
+     * Picks br, then gzip, then identity. A coding is acceptable when Accept-Encoding lists it, or "*" when it
+     * is not listed, with a q-value above 0.
+     */
+    static String negotiate(String acceptEncoding, boolean brotli, boolean gzip) {
+        if (acceptEncoding == null) {
+            return "identity";
+        }
+        Map<String, Double> qualities = new HashMap<>();
+        for (String entry : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = entry.split(";");
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.put(parts[0].trim(), quality);
+        }
+        if (brotli && accepts(qualities, "br")) {
+            return "br";
+        }
+        return gzip && accepts(qualities, "gzip") ? "gzip" : "identity";
+    }
+
+    private static boolean accepts(Map<String, Double> qualities, String coding) {
+        Double quality = qualities.containsKey(coding) ? qualities.get(coding) : qualities.get("*");
+        return quality != null && quality > 0;
+    }
+
+    private static Buffer load(String resource) throws IOException {
+        try (InputStream in = resource(resource)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] bytes = in.readAllBytes();
+            return Buffer.buffer(Unpooled.unreleasableBuffer(
+                    Unpooled.directBuffer(bytes.length).writeBytes(bytes).asReadOnly()));
+        }
+    }
+
+    private static InputStream resource(String name) {
+        return Thread.currentThread().getContextClassLoader().getResourceAsStream(name);
+    }
+}
@@ -0,0 +1,50 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.trace.TemplateEvent;
+import io.quarkus.qute.trace.TraceListener;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the competency.template.render timer, tagged by template id, for every Qute render.
+ * Uses the Qute trace hooks, which also fire an event per resolved expression while a listener
+ * is registered; disable with competency.metrics.templates=false when that overhead matters.
+ */
+@ApplicationScoped
+public class TemplateRenderMetrics implements TraceListener {
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "competency.metrics.templates", defaultValue = "true")
+    boolean enabled;
+
+    void configureEngine(@Observes EngineBuilder builder) {
+        if (enabled) {
+            builder.enableTracing(true);
+            builder.addEngineListener(new EngineBuilder.EngineListener() {
+                @Override
+                public void engineBuilt(Engine engine) {
+                    engine.addTraceListener(TemplateRenderMetrics.this);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onEndTemplate(TemplateEvent event) {
+        Timer.builder("competency.template.render")
+                .description("Qute template render duration")
+                .tag("template", event.getTemplateInstance().getTemplate().getId())
+                .register(meterRegistry)
+                .record(event.getEllapsedTime(), TimeUnit.NANOSECONDS);
+    }
+}
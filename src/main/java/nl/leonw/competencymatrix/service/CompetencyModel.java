@@ -0,0 +1,182 @@
+package nl.leonw.competencymatrix.service;
+
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.config.CompetencyDataChanged;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.DataGenerationRepository;
+import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link CompetencySnapshot} and serves page data from it. The snapshot is loaded after
+ * the startup sync and rebuilt after every committed sync that changed data, together with the
+ * {@link SkillDescriptionStore}, then swapped in and announced with {@link CompetencyModelLoaded}; readers
+ * keep the snapshot they started with.
+ *
+ * <p>{@link #serve} answers on the calling thread, normally the Vert.x event loop, when the snapshot is loaded
+ * and has the requested data. Otherwise it falls back to the blocking database path on a virtual thread:
+ * before the first load, after a failed rebuild, and for data written outside a sync.</p>
+ *
+ * <p>Each snapshot remembers the data generation it was loaded at, so {@link DataGenerationPoller} can tell
+ * when another instance on the same database changed the data.</p>
+ */
+@ApplicationScoped
+public class CompetencyModel {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetencyModel.class);
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Inject
+    RoleSkillRequirementRepository requirementRepository;
+
+    @Inject
+    RoleProgressionRepository progressionRepository;
+
+    @Inject
+    DataGenerationRepository dataGenerationRepository;
+
+    @Inject
+    SkillDescriptionStore descriptionStore;
+
+    @Inject
+    @VirtualThreads
+    ExecutorService virtualThreads;
+
+    @Inject
+    Event<CompetencyModelLoaded> modelLoaded;
+
+    // A lock rather than synchronized: loads may run on virtual threads and must not pin them during JDBC
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile CompetencySnapshot snapshot;
+    // Generation read before the data of the current snapshot; -1 when not loaded
+    private volatile long loadedGeneration = -1;
+
+    void onDataChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) CompetencyDataChanged event) {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the competency model; serving from the database until the next load", e);
+        }
+    }
+
+    /**
+     * Loads a new snapshot from the database and swaps it in. On failure the model is empty, so nothing
+     * stale is served.
+     */
+    public CompetencySnapshot reload() {
+        loadLock.lock();
+        try {
+            // Read first: a change committed while loading makes the generation look older, never newer
+            long generation = dataGenerationRepository.find().generation();
+            descriptionStore.refresh();
+            CompetencySnapshot loaded = CompetencySnapshot.build(
+                    roleRepository.findAllOrderByName(),
+                    categoryRepository.findAllOrderByDisplayOrder(),
+                    skillRepository.findAllHeadersOrderByName(),
+                    requirementRepository.findAll(),
+                    progressionRepository.findAll());
+            snapshot = loaded;
+            loadedGeneration = generation;
+            log.debug("Competency model loaded: {} roles, {} categories",
+                    loaded.roles().size(), loaded.categories().size());
+            modelLoaded.fire(new CompetencyModelLoaded(loaded));
+            return loaded;
+        } catch (RuntimeException e) {
+            snapshot = null;
+            loadedGeneration = -1;
+            throw e;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Data generation the current snapshot was loaded at, or -1 when no snapshot is loaded.
+     */
+    public long loadedGeneration() {
+        return loadedGeneration;
+    }
+
+    /**
+     * Current snapshot, if loaded.
+     */
+    public Optional<CompetencySnapshot> current() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Current snapshot, loading it first when there is none. Blocks; call it from a virtual thread.
+     *
+     * @return the snapshot, or empty when loading it failed
+     */
+    public Optional<CompetencySnapshot> currentOrLoad() {
+        return Optional.ofNullable(loadIfAbsent());
+    }
+
+    /**
+     * Answers from the snapshot without leaving the calling thread when possible, else runs {@code blocking}
+     * on a virtual thread. Before the first load that virtual thread loads the snapshot and tries it again.
+     *
+     * @param fromSnapshot answer from the snapshot; empty when the snapshot does not have the data
+     * @param blocking     answer from the database, e.g. through {@link CompetencyService}
+     */
+    public <T> Uni<T> serve(Function<CompetencySnapshot, Optional<T>> fromSnapshot, Supplier<T> blocking) {
+        CompetencySnapshot current = snapshot;
+        if (current != null) {
+            Optional<T> answer = fromSnapshot.apply(current);
+            if (answer.isPresent()) {
+                return Uni.createFrom().item(answer.get());
+            }
+        }
+        return Uni.createFrom().item(() -> {
+            CompetencySnapshot loaded = current != null ? current : loadIfAbsent();
+            Optional<T> answer = loaded != null ? fromSnapshot.apply(loaded) : Optional.empty();
+            return answer.orElseGet(blocking);
+        }).runSubscriptionOn(virtualThreads);
+    }
+
+    /**
+     * @return the snapshot, or null when loading it failed
+     */
+    private CompetencySnapshot loadIfAbsent() {
+        CompetencySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot;
+            return current != null ? current : reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the competency model; serving from the database", e);
+            return null;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+}
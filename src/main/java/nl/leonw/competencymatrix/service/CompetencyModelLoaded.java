@@ -0,0 +1,11 @@
+package nl.leonw.competencymatrix.service;
+
+/**
+ * CDI event fired by {@link CompetencyModel} after a new snapshot was swapped in, at startup and after
+ * every committed sync that changed data. Observers derive their own views from the snapshot; the
+ * {@link SkillDescriptionStore} is already up to date.
+ *
+ * @param snapshot the snapshot now being served
+ */
+public record CompetencyModelLoaded(CompetencySnapshot snapshot) {
+}
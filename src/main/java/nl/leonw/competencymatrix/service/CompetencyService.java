@@ -1,5 +1,7 @@
 package nl.leonw.competencymatrix.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -19,6 +21,7 @@ import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
 import nl.leonw.competencymatrix.repository.SkillRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -44,6 +47,22 @@ public class CompetencyService {
     @Inject
     RoleSkillRequirementRepository requirementRepository;
 
+    @Inject
+    SkillDescriptionStore descriptionStore;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    // Concurrent page builds for the same key (e.g. right after a reload) share one computation
+    private SingleFlight<MatrixKey, MatrixViewModel> matrixFlights;
+    private SingleFlight<Integer, Map<CompetencyCategory, List<SkillWithRequirement>>> roleCategoryFlights;
+
+    @PostConstruct
+    void initSingleFlights() {
+        matrixFlights = new SingleFlight<>(meterRegistry, "matrix");
+        roleCategoryFlights = new SingleFlight<>(meterRegistry, "role-categories");
+    }
+
     public List<Role> getAllRoles() {
         return roleRepository.findAllOrderByName();
     }
@@ -64,6 +83,17 @@ public class CompetencyService {
         return skillRepository.findById(id);
     }
 
+    /**
+     * Skill without its level descriptions; render those from {@link #getSkillDescriptions(Integer)}.
+     */
+    public Optional<Skill> getSkillSummaryById(Integer id) {
+        return skillRepository.findHeaderById(id);
+    }
+
+    public SkillDescriptions getSkillDescriptions(Integer skillId) {
+        return descriptionStore.forSkill(skillId);
+    }
+
     public List<Skill> getSkillsByCategory(Integer categoryId) {
         return skillRepository.findByCategoryId(categoryId);
     }
@@ -89,9 +119,14 @@ public class CompetencyService {
     }
 
     /**
-     * Get skills grouped by category for a specific role
+     * Get skills grouped by category for a specific role.
+     * Concurrent calls for the same role share one computation, so the returned map and lists are unmodifiable.
      */
     public Map<CompetencyCategory, List<SkillWithRequirement>> getSkillsByCategoryForRole(Integer roleId) {
+        return roleCategoryFlights.execute(roleId, () -> loadSkillsByCategoryForRole(roleId));
+    }
+
+    private Map<CompetencyCategory, List<SkillWithRequirement>> loadSkillsByCategoryForRole(Integer roleId) {
         List<CompetencyCategory> categories = categoryRepository.findAllOrderByDisplayOrder();
         List<RoleSkillRequirement> requirements = requirementRepository.findByRoleId(roleId);
 
@@ -109,16 +144,16 @@ public class CompetencyService {
                 if (skill != null) {
                     RoleSkillRequirement req = requirementsBySkillId.get(skill.id());
                     if (req != null) {
-                        skillsWithReqs.add(new SkillWithRequirement(skill, req.getProficiencyLevel()));
+                        skillsWithReqs.add(new SkillWithRequirement(skill, req.requiredLevel()));
                     }
                 }
             }
 
             if (!skillsWithReqs.isEmpty()) {
-                result.put(category, skillsWithReqs);
+                result.put(category, List.copyOf(skillsWithReqs));
             }
         }
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
     /**
@@ -165,8 +200,8 @@ public class CompetencyService {
                     RoleSkillRequirement fromReq = fromReqs.get(skill.id());
                     RoleSkillRequirement toReq = toReqs.get(skill.id());
 
-                    ProficiencyLevel fromLevel = fromReq != null ? fromReq.getProficiencyLevel() : null;
-                    ProficiencyLevel toLevel = toReq != null ? toReq.getProficiencyLevel() : null;
+                    ProficiencyLevel fromLevel = fromReq != null ? fromReq.requiredLevel() : null;
+                    ProficiencyLevel toLevel = toReq != null ? toReq.requiredLevel() : null;
 
                     comparisons.add(new SkillComparison(category, skill, fromLevel, toLevel));
                 }
@@ -188,10 +223,16 @@ public class CompetencyService {
      * Feature: 004-matrix-overview
      * Uses CompetencyMatrix with get(roleName, skillName) for explicit cell lookups.
      *
+     * Concurrent calls for the same filter share one computation; the view model is unmodifiable.
+     *
      * @param categoryId Optional category ID to filter skills (null = show all)
      * @return MatrixViewModel with matrix, ordered roles/skills, and filter state
      */
     public MatrixViewModel buildMatrixViewModel(Integer categoryId) {
+        return matrixFlights.execute(new MatrixKey(categoryId), () -> loadMatrixViewModel(categoryId));
+    }
+
+    private MatrixViewModel loadMatrixViewModel(Integer categoryId) {
         // Load data in correct order
         List<Skill> skills = loadSkillsAlphabetical(categoryId);
         List<Role> roles = loadRolesOrderedByFamilyAndSeniority();
@@ -255,6 +296,7 @@ public class CompetencyService {
                     .computeIfAbsent(roleInfo.family(), k -> new ArrayList<>())
                     .add(roleInfo);
         }
+        rolesByFamily.replaceAll((family, roles) -> List.copyOf(roles));
         return rolesByFamily;
     }
 
@@ -267,7 +309,7 @@ public class CompetencyService {
         List<RoleSkillRequirement> allRequirements = requirementRepository.findAll();
         Map<String, ProficiencyLevel> requirementsMap = new HashMap<>();
         for (RoleSkillRequirement req : allRequirements) {
-            requirementsMap.put(requirementKey(req.skillId(), req.roleId()), req.getProficiencyLevel());
+            requirementsMap.put(requirementKey(req.skillId(), req.roleId()), req.requiredLevel());
         }
 
         // Build role->skill->level map
@@ -310,6 +352,11 @@ public class CompetencyService {
         );
     }
 
+    /**
+     * Single-flight key for the matrix; wraps the nullable category filter.
+     */
+    private record MatrixKey(Integer categoryId) {}
+
     public record SkillWithRequirement(Skill skill, ProficiencyLevel requiredLevel) {}
 
     public record SkillComparison(
@@ -342,4 +389,39 @@ public class CompetencyService {
             return fromLevel != null && toLevel == null;
         }
     }
+
+    /**
+     * Skill comparisons between two roles with the number of skills per kind of change, counted the way the
+     * comparison table labels them.
+     */
+    public record RoleComparison(
+            List<SkillComparison> skills,
+            int added,
+            int upgrades,
+            int downgrades,
+            int removed
+    ) {
+        public static RoleComparison of(List<SkillComparison> skills) {
+            int added = 0;
+            int upgrades = 0;
+            int downgrades = 0;
+            int removed = 0;
+            for (SkillComparison comparison : skills) {
+                if (comparison.isNew()) {
+                    added++;
+                } else if (comparison.isUpgrade()) {
+                    upgrades++;
+                } else if (comparison.isRemoved()) {
+                    removed++;
+                } else if (comparison.isDowngrade()) {
+                    downgrades++;
+                }
+            }
+            return new RoleComparison(List.copyOf(skills), added, upgrades, downgrades, removed);
+        }
+
+        public int changed() {
+            return added + upgrades + downgrades + removed;
+        }
+    }
 }
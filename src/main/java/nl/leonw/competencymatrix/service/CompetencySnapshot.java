@@ -0,0 +1,293 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.service.CompetencyService.RoleComparison;
+import nl.leonw.competencymatrix.service.CompetencyService.SkillComparison;
+import nl.leonw.competencymatrix.service.CompetencyService.SkillWithRequirement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable in-memory copy of the competency data behind the page endpoints, so they can be answered
+ * without JDBC. Queries return the same results in the same order as the matching
+ * {@link CompetencyService} methods. Skills are kept without their level descriptions; those stay in
+ * {@link SkillDescriptionStore}.
+ *
+ * <p>Comparisons along every progression edge, in both directions, are computed when the snapshot is built,
+ * since those are the ones linked from the role pages.</p>
+ */
+public final class CompetencySnapshot {
+
+    private static final Comparator<Role> BY_NAME = Comparator.comparing(Role::name);
+    // Same order as RoleRepository#findAllOrderByFamilyAndSeniority (H2 sorts nulls first), then by name
+    private static final Comparator<Role> BY_FAMILY_AND_SENIORITY = Comparator
+            .comparing(Role::roleFamily, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Role::seniorityOrder, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .thenComparing(BY_NAME);
+
+    private final List<Role> rolesByName;
+    private final List<Role> rolesByFamilyAndSeniority;
+    private final Map<Integer, Role> roles;
+    private final List<CompetencyCategory> categories;
+    private final Map<Integer, CompetencyCategory> categoriesById;
+    private final Map<Integer, Skill> skills;
+    // All skills in the order of the matrix page: by name, ignoring case
+    private final List<Skill> skillsAlphabetical;
+    // Skills per category id, ordered by name
+    private final Map<Integer, List<Skill>> skillsByCategory;
+    // Skills per category id in the order of the skills page: by name, ignoring case
+    private final Map<Integer, List<Skill>> skillsByCategoryAlphabetical;
+    // Required level per role id, then skill id
+    private final Map<Integer, Map<Integer, ProficiencyLevel>> requirements;
+    private final Map<Integer, List<Role>> nextRoles;
+    private final Map<Integer, List<Role>> previousRoles;
+    // Comparison per from role id, then to role id, for both directions of every progression
+    private final Map<Integer, Map<Integer, RoleComparison>> progressionComparisons;
+
+    private CompetencySnapshot(List<Role> rolesByName, List<Role> rolesByFamilyAndSeniority, Map<Integer, Role> roles,
+                               List<CompetencyCategory> categories, Map<Integer, CompetencyCategory> categoriesById,
+                               Map<Integer, Skill> skills, List<Skill> skillsAlphabetical,
+                               Map<Integer, List<Skill>> skillsByCategory,
+                               Map<Integer, List<Skill>> skillsByCategoryAlphabetical,
+                               Map<Integer, Map<Integer, ProficiencyLevel>> requirements,
+                               Map<Integer, List<Role>> nextRoles, Map<Integer, List<Role>> previousRoles,
+                               Map<Integer, Map<Integer, RoleComparison>> progressionComparisons) {
+        this.rolesByName = rolesByName;
+        this.rolesByFamilyAndSeniority = rolesByFamilyAndSeniority;
+        this.roles = roles;
+        this.categories = categories;
+        this.categoriesById = categoriesById;
+        this.skills = skills;
+        this.skillsAlphabetical = skillsAlphabetical;
+        this.skillsByCategory = skillsByCategory;
+        this.skillsByCategoryAlphabetical = skillsByCategoryAlphabetical;
+        this.requirements = requirements;
+        this.nextRoles = nextRoles;
+        this.previousRoles = previousRoles;
+        this.progressionComparisons = progressionComparisons;
+    }
+
+    /**
+     * @param roles      all roles, ordered by name
+     * @param categories all categories, ordered by display order and name
+     * @param skills     all skills, ordered by name
+     */
+    static CompetencySnapshot build(List<Role> roles, List<CompetencyCategory> categories, List<Skill> skills,
+                                    List<RoleSkillRequirement> requirements, List<RoleProgression> progressions) {
+        Map<Integer, Role> rolesById = new HashMap<>();
+        roles.forEach(role -> rolesById.put(role.id(), role));
+
+        List<Role> rolesByFamilyAndSeniority = new ArrayList<>(roles);
+        rolesByFamilyAndSeniority.sort(BY_FAMILY_AND_SENIORITY);
+
+        Map<Integer, CompetencyCategory> categoriesById = new HashMap<>();
+        categories.forEach(category -> categoriesById.put(category.id(), category));
+
+        Map<Integer, Skill> skillsById = new HashMap<>();
+        Map<Integer, List<Skill>> skillsByCategory = new HashMap<>();
+        List<Skill> skillsAlphabetical = new ArrayList<>();
+        for (Skill skill : skills) {
+            Skill header = new Skill(skill.id(), skill.name(), skill.categoryId(), null, null, null, null);
+            skillsById.put(header.id(), header);
+            skillsByCategory.computeIfAbsent(header.categoryId(), id -> new ArrayList<>()).add(header);
+            skillsAlphabetical.add(header);
+        }
+        // Stable, so names equal ignoring case keep their database order, as on the matrix page
+        skillsAlphabetical.sort((s1, s2) -> s1.name().compareToIgnoreCase(s2.name()));
+        Map<Integer, List<Skill>> skillsByCategoryAlphabetical = new HashMap<>();
+        for (Skill skill : skillsAlphabetical) {
+            skillsByCategoryAlphabetical.computeIfAbsent(skill.categoryId(), id -> new ArrayList<>()).add(skill);
+        }
+
+        Map<Integer, Map<Integer, ProficiencyLevel>> levels = new HashMap<>();
+        for (RoleSkillRequirement requirement : requirements) {
+            levels.computeIfAbsent(requirement.roleId(), id -> new HashMap<>())
+                    .put(requirement.skillId(), requirement.requiredLevel());
+        }
+
+        Map<Integer, List<Role>> next = new HashMap<>();
+        Map<Integer, List<Role>> previous = new HashMap<>();
+        for (RoleProgression progression : progressions) {
+            Role from = rolesById.get(progression.fromRoleId());
+            Role to = rolesById.get(progression.toRoleId());
+            if (from != null && to != null) {
+                next.computeIfAbsent(from.id(), id -> new ArrayList<>()).add(to);
+                previous.computeIfAbsent(to.id(), id -> new ArrayList<>()).add(from);
+            }
+        }
+        next.values().forEach(list -> list.sort(BY_NAME));
+        previous.values().forEach(list -> list.sort(BY_NAME));
+
+        Map<Integer, Map<Integer, RoleComparison>> comparisons = new HashMap<>();
+        next.forEach((fromId, toRoles) -> {
+            for (Role to : toRoles) {
+                comparisons.computeIfAbsent(fromId, id -> new HashMap<>()).put(to.id(),
+                        compare(categories, skillsByCategory, levels, fromId, to.id()));
+                comparisons.computeIfAbsent(to.id(), id -> new HashMap<>()).put(fromId,
+                        compare(categories, skillsByCategory, levels, to.id(), fromId));
+            }
+        });
+
+        return new CompetencySnapshot(List.copyOf(roles), List.copyOf(rolesByFamilyAndSeniority), Map.copyOf(rolesById),
+                List.copyOf(categories), Map.copyOf(categoriesById), Map.copyOf(skillsById),
+                List.copyOf(skillsAlphabetical), copyOfLists(skillsByCategory),
+                copyOfLists(skillsByCategoryAlphabetical), copyOfMaps(levels),
+                copyOfLists(next), copyOfLists(previous), copyOfMaps(comparisons));
+    }
+
+    public List<Role> roles() {
+        return rolesByName;
+    }
+
+    public Optional<Role> role(Integer id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(roles.get(id));
+    }
+
+    /**
+     * All roles in the column order of the matrix page: by role family, then seniority.
+     */
+    public List<Role> rolesByFamilyAndSeniority() {
+        return rolesByFamilyAndSeniority;
+    }
+
+    public List<CompetencyCategory> categories() {
+        return categories;
+    }
+
+    public Optional<CompetencyCategory> category(Integer id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(categoriesById.get(id));
+    }
+
+    /**
+     * All skills, without their level descriptions, in the row order of the matrix page: by name, ignoring case.
+     */
+    public List<Skill> skillsAlphabetical() {
+        return skillsAlphabetical;
+    }
+
+    /**
+     * Skill without its level descriptions.
+     */
+    public Optional<Skill> skill(Integer id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(skills.get(id));
+    }
+
+    public Optional<ProficiencyLevel> requiredLevel(int roleId, int skillId) {
+        return Optional.ofNullable(requirements.getOrDefault(roleId, Map.of()).get(skillId));
+    }
+
+    public List<Role> nextRoles(int roleId) {
+        return nextRoles.getOrDefault(roleId, List.of());
+    }
+
+    public List<Role> previousRoles(int roleId) {
+        return previousRoles.getOrDefault(roleId, List.of());
+    }
+
+    /**
+     * See {@link CompetencyService#getSkillsByCategoryForRole(Integer)}; level descriptions are read from the store.
+     */
+    public Map<CompetencyCategory, List<SkillWithRequirement>> skillsByCategoryForRole(int roleId,
+                                                                                      SkillDescriptionStore descriptions) {
+        Map<Integer, ProficiencyLevel> levels = requirements.getOrDefault(roleId, Map.of());
+        Map<CompetencyCategory, List<SkillWithRequirement>> result = new LinkedHashMap<>();
+        for (CompetencyCategory category : categories) {
+            List<SkillWithRequirement> required = new ArrayList<>();
+            for (Skill skill : skillsByCategory.getOrDefault(category.id(), List.of())) {
+                ProficiencyLevel level = levels.get(skill.id());
+                if (level != null) {
+                    required.add(new SkillWithRequirement(withDescriptions(skill, descriptions), level));
+                }
+            }
+            if (!required.isEmpty()) {
+                result.put(category, required);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * See {@link CompetencyService#getAllSkillsByCategory(Integer)}; level descriptions are read from the store.
+     * The skills per category are sorted when the snapshot is built.
+     */
+    public Map<CompetencyCategory, List<Skill>> allSkillsByCategory(Integer categoryId,
+                                                                   SkillDescriptionStore descriptions) {
+        Map<CompetencyCategory, List<Skill>> result = new LinkedHashMap<>();
+        for (CompetencyCategory category : categories) {
+            if (categoryId != null && !categoryId.equals(category.id())) {
+                continue;
+            }
+            List<Skill> withDescriptions = new ArrayList<>();
+            for (Skill skill : skillsByCategoryAlphabetical.getOrDefault(category.id(), List.of())) {
+                withDescriptions.add(withDescriptions(skill, descriptions));
+            }
+            if (!withDescriptions.isEmpty()) {
+                result.put(category, withDescriptions);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * See {@link CompetencyService#compareRoles(Integer, Integer)}. Precomputed when the roles are linked by a
+     * progression in either direction, else computed now.
+     */
+    public RoleComparison comparison(int fromRoleId, int toRoleId) {
+        RoleComparison materialized = progressionComparisons.getOrDefault(fromRoleId, Map.of()).get(toRoleId);
+        if (materialized != null) {
+            return materialized;
+        }
+        return compare(categories, skillsByCategory, requirements, fromRoleId, toRoleId);
+    }
+
+    private static RoleComparison compare(List<CompetencyCategory> categories,
+                                          Map<Integer, List<Skill>> skillsByCategory,
+                                          Map<Integer, Map<Integer, ProficiencyLevel>> requirements,
+                                          int fromRoleId, int toRoleId) {
+        Map<Integer, ProficiencyLevel> fromLevels = requirements.getOrDefault(fromRoleId, Map.of());
+        Map<Integer, ProficiencyLevel> toLevels = requirements.getOrDefault(toRoleId, Map.of());
+        List<SkillComparison> comparisons = new ArrayList<>();
+        for (CompetencyCategory category : categories) {
+            for (Skill skill : skillsByCategory.getOrDefault(category.id(), List.of())) {
+                ProficiencyLevel fromLevel = fromLevels.get(skill.id());
+                ProficiencyLevel toLevel = toLevels.get(skill.id());
+                if (fromLevel != null || toLevel != null) {
+                    comparisons.add(new SkillComparison(category, skill, fromLevel, toLevel));
+                }
+            }
+        }
+        return RoleComparison.of(comparisons);
+    }
+
+    private static Skill withDescriptions(Skill skill, SkillDescriptionStore descriptions) {
+        return new Skill(skill.id(), skill.name(), skill.categoryId(),
+                descriptions.get(skill.id(), ProficiencyLevel.BASIS),
+                descriptions.get(skill.id(), ProficiencyLevel.REDELIJK),
+                descriptions.get(skill.id(), ProficiencyLevel.GOED),
+                descriptions.get(skill.id(), ProficiencyLevel.UITSTEKEND));
+    }
+
+    private static <V> Map<Integer, List<V>> copyOfLists(Map<Integer, List<V>> lists) {
+        Map<Integer, List<V>> copy = new HashMap<>();
+        lists.forEach((key, list) -> copy.put(key, List.copyOf(list)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static <V> Map<Integer, Map<Integer, V>> copyOfMaps(Map<Integer, Map<Integer, V>> maps) {
+        Map<Integer, Map<Integer, V>> copy = new HashMap<>();
+        maps.forEach((key, map) -> copy.put(key, Map.copyOf(map)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,121 @@
+package nl.leonw.competencymatrix.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.DataGeneration;
+import nl.leonw.competencymatrix.repository.DataGenerationRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link CompetencyModel} coherent when several instances share one database
+ * (competency.cache.shared-database). Every sync that changes data bumps the data_generation row in its
+ * transaction; this poller reads that row every competency.cache.poll-interval and reloads the model when the
+ * generation differs from the one it was loaded at. The instance that ran the sync has already reloaded, so
+ * it sees no difference.
+ *
+ * <p>Reports competency.cache.generation.lag (generations behind the database at the last poll),
+ * competency.cache.refresh (duration of a reload triggered here) and competency.cache.staleness (time from
+ * the change on another instance until this one serves it; compares clocks of both instances).</p>
+ */
+@ApplicationScoped
+public class DataGenerationPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerationPoller.class);
+
+    @Inject
+    DataGenerationRepository dataGenerationRepository;
+
+    @Inject
+    CompetencyModel competencyModel;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "competency.cache.shared-database", defaultValue = "false")
+    boolean sharedDatabase;
+
+    @ConfigProperty(name = "competency.cache.poll-interval", defaultValue = "2s")
+    Duration pollInterval;
+
+    private ScheduledExecutorService scheduler;
+    private Timer refreshTimer;
+    private Timer stalenessTimer;
+    private volatile long polledGeneration = -1;
+
+    void onStart(@Observes StartupEvent event) {
+        refreshTimer = Timer.builder("competency.cache.refresh")
+                .description("Time to reload the in-memory model after another instance changed the data")
+                .register(meterRegistry);
+        stalenessTimer = Timer.builder("competency.cache.staleness")
+                .description("Time from a data change on another instance until this instance serves it")
+                .register(meterRegistry);
+        Gauge.builder("competency.cache.generation.lag", this, DataGenerationPoller::lag)
+                .description("Data generations the in-memory model is behind the database, as of the last poll")
+                .register(meterRegistry);
+        if (!sharedDatabase) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("data-generation-poller").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("Polling data generation every {} ms", pollInterval.toMillis());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the generation and reloads the model when it moved. Before the first load the model is left to
+     * the startup sync.
+     *
+     * @return true when the model was reloaded
+     */
+    boolean poll() {
+        DataGeneration current = dataGenerationRepository.find();
+        polledGeneration = current.generation();
+        long loaded = competencyModel.loadedGeneration();
+        if (loaded < 0 || loaded == current.generation()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        competencyModel.reload();
+        refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Duration staleness = Duration.between(current.changedAt(), Instant.now());
+        stalenessTimer.record(staleness.isNegative() ? Duration.ZERO : staleness);
+        log.info("Data generation {} -> {}; reloaded competency model, {} ms after the change",
+                loaded, current.generation(), staleness.toMillis());
+        return true;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll data generation; retrying in {} ms", pollInterval.toMillis(), e);
+        }
+    }
+
+    private double lag() {
+        long loaded = competencyModel.loadedGeneration();
+        long polled = polledGeneration;
+        return loaded < 0 || polled < 0 ? 0 : Math.max(0, polled - loaded);
+    }
+}
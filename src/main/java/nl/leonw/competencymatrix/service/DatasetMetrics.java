@@ -0,0 +1,86 @@
+package nl.leonw.competencymatrix.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Gauges for the size of the dataset: competency.dataset.entities (tagged by entity) and
+ * competency.matrix.fill.ratio, the share of role/skill cells that have a requirement.
+ * Counts are queried on the first scrape and again after each load of the {@link CompetencyModel},
+ * which follows every sync that changed data on this or (see {@link DataGenerationPoller}) another
+ * instance, not on every scrape.
+ */
+@ApplicationScoped
+public class DatasetMetrics {
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Inject
+    RoleSkillRequirementRepository requirementRepository;
+
+    @Inject
+    RoleProgressionRepository progressionRepository;
+
+    private volatile Counts counts;
+
+    record Counts(long categories, long skills, long roles, long requirements, long progressions) {
+
+        double fillRatio() {
+            long cells = roles * skills;
+            return cells == 0 ? 0 : (double) requirements / cells;
+        }
+    }
+
+    void registerGauges(@Observes StartupEvent event) {
+        entityGauge("categories", Counts::categories);
+        entityGauge("skills", Counts::skills);
+        entityGauge("roles", Counts::roles);
+        entityGauge("requirements", Counts::requirements);
+        entityGauge("progressions", Counts::progressions);
+        Gauge.builder("competency.matrix.fill.ratio", this, metrics -> metrics.counts().fillRatio())
+                .description("Share of role/skill combinations that have a requirement")
+                .register(meterRegistry);
+    }
+
+    void onModelLoaded(@Observes CompetencyModelLoaded event) {
+        counts = null;
+    }
+
+    Counts counts() {
+        Counts current = counts;
+        if (current == null) {
+            current = new Counts(categoryRepository.count(), skillRepository.count(), roleRepository.count(),
+                    requirementRepository.count(), progressionRepository.count());
+            counts = current;
+        }
+        return current;
+    }
+
+    private void entityGauge(String entity, ToDoubleFunction<Counts> count) {
+        Gauge.builder("competency.dataset.entities", this, metrics -> count.applyAsDouble(metrics.counts()))
+                .description("Number of rows per entity in the competency dataset")
+                .tag("entity", entity)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,84 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.Skill;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes the competency matrix as CSV (RFC 4180): one row per skill in the order of the matrix page, with its
+ * category and the required level per role, roles in the column order of the matrix page. Rows are written as
+ * they are produced from the {@link CompetencySnapshot}, so nothing but the write buffer is held per export.
+ *
+ * <p>The output starts with a byte order mark so spreadsheet applications read it as UTF-8. Values that a
+ * spreadsheet would evaluate as a formula are prefixed with an apostrophe.</p>
+ */
+public final class MatrixCsvWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private MatrixCsvWriter() {
+    }
+
+    /**
+     * @param categoryId only skills of this category, like the filter of the matrix page; null for all skills
+     */
+    public static void write(CompetencySnapshot snapshot, Integer categoryId, OutputStream output) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+        out.write('\uFEFF');
+
+        List<Role> roles = snapshot.rolesByFamilyAndSeniority();
+        out.write("Category,Skill");
+        for (Role role : roles) {
+            out.write(',');
+            writeValue(out, role.name());
+        }
+        out.write(LINE_END);
+
+        for (Skill skill : snapshot.skillsAlphabetical()) {
+            if (categoryId != null && !categoryId.equals(skill.categoryId())) {
+                continue;
+            }
+            writeValue(out, snapshot.category(skill.categoryId()).map(CompetencyCategory::name).orElse(""));
+            out.write(',');
+            writeValue(out, skill.name());
+            for (Role role : roles) {
+                out.write(',');
+                ProficiencyLevel level = snapshot.requiredLevel(role.id(), skill.id()).orElse(null);
+                if (level != null) {
+                    out.write(level.getDisplayName());
+                }
+            }
+            out.write(LINE_END);
+        }
+        out.flush();
+    }
+
+    /**
+     * Quotes values with a comma, quote or line break, doubling the quotes inside.
+     */
+    static void writeValue(Writer out, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if ("=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,150 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.config.SyncPhase;
+import nl.leonw.competencymatrix.config.SyncResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reload running (or finished) on the background executor of {@link ReloadJobService}.
+ * Collects phase progress so subscribers that connect late still receive every event.
+ */
+public final class ReloadJob {
+
+    public enum State {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    /**
+     * Progress of one completed sync phase.
+     */
+    public record PhaseProgress(
+        SyncPhase phase,
+        int rows,
+        long elapsedMs,
+        long totalElapsedMs
+    ) {}
+
+    /**
+     * Snapshot of the job, used for the status endpoint and the final event.
+     */
+    public record Status(
+        String id,
+        State state,
+        Instant startedAt,
+        long elapsedMs,
+        List<PhaseProgress> phases,
+        SyncResult result,
+        String error
+    ) {}
+
+    /**
+     * Named event for subscribers: "phase" carries {@link PhaseProgress}; "completed" and "failed" carry {@link Status}.
+     */
+    public record Event(
+        String name,
+        Object data
+    ) {}
+
+    /**
+     * Receives events in order; {@link #onComplete()} is called once after the final event.
+     */
+    public interface Subscriber {
+        void onEvent(Event event);
+
+        void onComplete();
+    }
+
+    private final String id;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<PhaseProgress> phases = new ArrayList<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    private State state = State.RUNNING;
+    private long finishedNanos;
+    private SyncResult result;
+    private String error;
+
+    ReloadJob(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public synchronized boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public synchronized Status status() {
+        long end = state == State.RUNNING ? System.nanoTime() : finishedNanos;
+        return new Status(id, state, startedAt, Duration.ofNanos(end - startNanos).toMillis(),
+                List.copyOf(phases), result, error);
+    }
+
+    /**
+     * Replays the events so far and, while the job runs, registers for the remaining ones.
+     */
+    public synchronized void subscribe(Subscriber subscriber) {
+        for (PhaseProgress progress : phases) {
+            subscriber.onEvent(new Event("phase", progress));
+        }
+        if (state == State.RUNNING) {
+            subscribers.add(subscriber);
+        } else {
+            subscriber.onEvent(finalEvent());
+            subscriber.onComplete();
+        }
+    }
+
+    synchronized void phaseCompleted(SyncPhase phase, int rows, Duration elapsed) {
+        PhaseProgress progress = new PhaseProgress(phase, rows, elapsed.toMillis(),
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        phases.add(progress);
+        Event event = new Event("phase", progress);
+        subscribers.removeIf(subscriber -> !deliver(subscriber, event));
+    }
+
+    synchronized void succeeded(SyncResult result) {
+        this.result = result;
+        finish(State.SUCCEEDED);
+    }
+
+    synchronized void failed(String error) {
+        this.error = error;
+        finish(State.FAILED);
+    }
+
+    private void finish(State finalState) {
+        state = finalState;
+        finishedNanos = System.nanoTime();
+        Event event = finalEvent();
+        for (Subscriber subscriber : subscribers) {
+            if (deliver(subscriber, event)) {
+                subscriber.onComplete();
+            }
+        }
+        subscribers.clear();
+    }
+
+    private Event finalEvent() {
+        return new Event(state == State.SUCCEEDED ? "completed" : "failed", status());
+    }
+
+    private static boolean deliver(Subscriber subscriber, Event event) {
+        try {
+            subscriber.onEvent(event);
+            return true;
+        } catch (RuntimeException e) {
+            // Client went away; stop sending to it
+            return false;
+        }
+    }
+}
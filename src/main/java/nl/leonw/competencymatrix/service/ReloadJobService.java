@@ -0,0 +1,94 @@
+package nl.leonw.competencymatrix.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.config.CompetencySyncService;
+import nl.leonw.competencymatrix.config.SyncResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs database reloads as background jobs so the HTTP request returns immediately.
+ * Jobs run one at a time on a dedicated thread. A reload requested while a job is running
+ * is coalesced into that job instead of starting another sync. The startup sync and the seed watcher
+ * do not go through this queue; the sync itself waits for them (see {@link CompetencySyncService}).
+ */
+@ApplicationScoped
+public class ReloadJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReloadJobService.class);
+
+    private static final int RETAINED_JOBS = 20;
+
+    @Inject
+    CompetencySyncService competencySyncService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("reload-job-", 0).daemon().factory());
+
+    // Most recent jobs by id, oldest evicted first
+    private final Map<String, ReloadJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ReloadJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+
+    private ReloadJob running;
+
+    /**
+     * Result of a reload request.
+     *
+     * @param job       job that will perform the reload
+     * @param coalesced true when the request joined a job that was already running
+     */
+    public record Submission(
+        ReloadJob job,
+        boolean coalesced
+    ) {}
+
+    /**
+     * Starts a reload job, or returns the running one.
+     */
+    public synchronized Submission submit() {
+        if (running != null && running.isRunning()) {
+            log.info("Reload requested while job {} is running; coalescing", running.id());
+            return new Submission(running, true);
+        }
+
+        ReloadJob job = new ReloadJob(UUID.randomUUID().toString());
+        jobs.put(job.id(), job);
+        running = job;
+        executor.execute(() -> run(job));
+        log.info("Reload job {} started", job.id());
+        return new Submission(job, false);
+    }
+
+    public synchronized Optional<ReloadJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(ReloadJob job) {
+        try {
+            SyncResult result = competencySyncService.syncFromConfiguration(job::phaseCompleted);
+            job.succeeded(result);
+            log.info("Reload job {} completed in {} ms", job.id(), job.status().elapsedMs());
+        } catch (RuntimeException e) {
+            log.error("Reload job {} failed", job.id(), e);
+            job.failed(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
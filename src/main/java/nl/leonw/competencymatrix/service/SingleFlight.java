@@ -0,0 +1,77 @@
+package nl.leonw.competencymatrix.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight computation between concurrent callers asking for the same key.
+ * The first caller computes on its own thread; callers arriving while it runs wait for and
+ * receive the same result (or exception). Nothing is cached: once the computation finishes
+ * the next caller computes again.
+ *
+ * <p>Results are shared between callers, so they must not be mutated.</p>
+ *
+ * @param <K> key type; must implement equals/hashCode and may not be null
+ * @param <V> result type
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executions;
+    private final Counter coalesced;
+
+    /**
+     * @param registry  registry for the competency.singleflight.executions/coalesced counters
+     * @param operation value of the operation tag
+     */
+    SingleFlight(MeterRegistry registry, String operation) {
+        this.executions = Counter.builder("competency.singleflight.executions")
+                .description("Computations started by a single-flight leader")
+                .tag("operation", operation)
+                .register(registry);
+        this.coalesced = Counter.builder("competency.singleflight.coalesced")
+                .description("Callers that shared an in-flight computation instead of starting their own")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = computation.get();
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package nl.leonw.competencymatrix.service;
+
+import io.vertx.core.Context;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Skill level descriptions kept off-heap: all descriptions as UTF-8, back to back in one
+ * {@link MemorySegment}, addressed by (skillId, level). The heap only holds the index
+ * (sorted skill ids and one offset per description), so the description text no longer
+ * sits on the heap as four Strings per skill.
+ *
+ * <p>Built from the database on first use and rebuilt by {@link CompetencyModel} after every committed sync
+ * that changed data, before its own snapshot, then swapped in. Old segments belong to an automatic arena
+ * and are freed by the GC once no reader uses them, so a reader racing with a rebuild never touches freed
+ * memory. Reads on the Vert.x event loop never query the database: there a skill missing from the snapshot
+ * has no descriptions.</p>
+ */
+@ApplicationScoped
+public class SkillDescriptionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDescriptionStore.class);
+
+    private static final int LEVELS = ProficiencyLevel.values().length;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    // Not synchronized: rebuilds may run on virtual threads and must not pin them during JDBC
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Descriptions of one skill, for templates.
+     */
+    public SkillDescriptions forSkill(int skillId) {
+        return new SkillDescriptions(skillId, this);
+    }
+
+    /**
+     * Decodes one description.
+     *
+     * @return the description, or null when the skill has none for this level or does not exist
+     */
+    public String get(int skillId, ProficiencyLevel level) {
+        ByteBuffer bytes = slice(skillId, level);
+        return bytes == null ? null : UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Rebuilds the snapshot from the database now. On failure the store is empty and rebuilds on the next read.
+     */
+    public void refresh() {
+        try {
+            rebuild(snapshot);
+        } catch (RuntimeException e) {
+            snapshot = null;
+            throw e;
+        }
+    }
+
+    private ByteBuffer slice(int skillId, ProficiencyLevel level) {
+        Snapshot current = snapshotContaining(skillId);
+        return current.slice(skillId, level);
+    }
+
+    private Snapshot snapshotContaining(int skillId) {
+        Snapshot current = snapshot;
+        if (current == null || !current.contains(skillId)) {
+            if (current != null && Context.isOnEventLoopThread()) {
+                return current;
+            }
+            // Skills written outside a sync (e.g. directly through the repository) trigger a rebuild
+            current = rebuild(current);
+        }
+        return current;
+    }
+
+    private Snapshot rebuild(Snapshot stale) {
+        rebuildLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current != stale) {
+                return current;
+            }
+            current = Snapshot.build(skillRepository.findAllOrderByName());
+            snapshot = current;
+            log.debug("Skill description store rebuilt: {} skills, {} bytes off-heap",
+                    current.skillIds.length, current.segment.byteSize());
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Immutable index plus segment. Description {@code i = slot(skillId) * LEVELS + level.ordinal()}
+     * spans {@code [offsets[i], offsets[i + 1])}; {@code nulls} marks descriptions that are null.
+     */
+    static final class Snapshot {
+        private final int[] skillIds;
+        private final long[] offsets;
+        private final BitSet nulls;
+        private final MemorySegment segment;
+
+        private Snapshot(int[] skillIds, long[] offsets, BitSet nulls, MemorySegment segment) {
+            this.skillIds = skillIds;
+            this.offsets = offsets;
+            this.nulls = nulls;
+            this.segment = segment;
+        }
+
+        static Snapshot build(List<Skill> skills) {
+            List<Skill> sorted = skills.stream().sorted(Comparator.comparing(Skill::id)).toList();
+            int[] skillIds = new int[sorted.size()];
+            long[] offsets = new long[sorted.size() * LEVELS + 1];
+            BitSet nulls = new BitSet();
+
+            byte[][] encoded = new byte[sorted.size() * LEVELS][];
+            long total = 0;
+            for (int slot = 0; slot < sorted.size(); slot++) {
+                Skill skill = sorted.get(slot);
+                skillIds[slot] = skill.id();
+                for (ProficiencyLevel level : ProficiencyLevel.values()) {
+                    int index = slot * LEVELS + level.ordinal();
+                    String description = skill.getDescriptionForLevel(level);
+                    if (description == null) {
+                        nulls.set(index);
+                        encoded[index] = new byte[0];
+                    } else {
+                        encoded[index] = description.getBytes(UTF_8);
+                    }
+                    offsets[index] = total;
+                    total += encoded[index].length;
+                }
+            }
+            offsets[offsets.length - 1] = total;
+
+            MemorySegment segment = Arena.ofAuto().allocate(Math.max(total, 1), 1);
+            for (int index = 0; index < encoded.length; index++) {
+                MemorySegment.copy(encoded[index], 0, segment, ValueLayout.JAVA_BYTE, offsets[index], encoded[index].length);
+            }
+            return new Snapshot(skillIds, offsets, nulls, segment);
+        }
+
+        boolean contains(int skillId) {
+            return Arrays.binarySearch(skillIds, skillId) >= 0;
+        }
+
+        ByteBuffer slice(int skillId, ProficiencyLevel level) {
+            int slot = Arrays.binarySearch(skillIds, skillId);
+            if (slot < 0) {
+                return null;
+            }
+            int index = slot * LEVELS + level.ordinal();
+            if (nulls.get(index)) {
+                return null;
+            }
+            long offset = offsets[index];
+            return segment.asSlice(offset, offsets[index + 1] - offset).asByteBuffer().asReadOnlyBuffer();
+        }
+    }
+}
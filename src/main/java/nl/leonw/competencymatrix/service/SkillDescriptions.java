@@ -0,0 +1,32 @@
+package nl.leonw.competencymatrix.service;
+
+import io.quarkus.qute.TemplateData;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+
+/**
+ * Template view of the level descriptions of one skill, read from {@link SkillDescriptionStore}.
+ * Each description is decoded only when the template renders it.
+ */
+@TemplateData
+public record SkillDescriptions(int skillId, SkillDescriptionStore store) {
+
+    public String forLevel(ProficiencyLevel level) {
+        return store.get(skillId, level);
+    }
+
+    public String basic() {
+        return forLevel(ProficiencyLevel.BASIS);
+    }
+
+    public String decent() {
+        return forLevel(ProficiencyLevel.REDELIJK);
+    }
+
+    public String good() {
+        return forLevel(ProficiencyLevel.GOED);
+    }
+
+    public String excellent() {
+        return forLevel(ProficiencyLevel.UITSTEKEND);
+    }
+}
@@ -141,3 +141,28 @@ document.addEventListener('DOMContentLoaded', function() {
         });
     });
 });
+
+/**
+ * Follows an asynchronous reload job over Server-Sent Events.
+ * Shows phase progress in the reload indicator and reloads the page when the job completes.
+ */
+function followReloadJob(xhr) {
+    const job = JSON.parse(xhr.responseText);
+    const indicator = document.querySelector('.reload-indicator');
+    indicator.style.opacity = '1';
+
+    const events = new EventSource(job.eventsUrl);
+    events.addEventListener('phase', function(event) {
+        const progress = JSON.parse(event.data);
+        indicator.textContent = `Reloading database... ${progress.phase.toLowerCase()} done `
+            + `(${progress.rows} rows, ${progress.totalElapsedMs} ms)`;
+    });
+    events.addEventListener('completed', function() {
+        events.close();
+        window.location.href = '/matrix';
+    });
+    events.addEventListener('failed', function(event) {
+        events.close();
+        indicator.textContent = 'Reload failed: ' + JSON.parse(event.data).error;
+    });
+}
@@ -0,0 +1,17 @@
+-- V4: Normalized names for case-insensitive lookups
+-- Purpose: findByNameIgnoreCase and the sync compare names after NameNormalizer.normalize
+-- (trim, collapse whitespace, lower case). Filtering on LOWER(TRIM(name)) cannot use an index,
+-- so the normalized name is kept in a generated column with a unique index.
+
+-- H2 evaluates REGEXP_REPLACE with java.util.regex and replaces every match, like NameNormalizer
+ALTER TABLE competency_category ADD COLUMN name_normalized VARCHAR(100)
+    GENERATED ALWAYS AS (LOWER(TRIM(REGEXP_REPLACE(name, '\s+', ' '))));
+ALTER TABLE rolename ADD COLUMN name_normalized VARCHAR(100)
+    GENERATED ALWAYS AS (LOWER(TRIM(REGEXP_REPLACE(name, '\s+', ' '))));
+ALTER TABLE skill ADD COLUMN name_normalized VARCHAR(100)
+    GENERATED ALWAYS AS (LOWER(TRIM(REGEXP_REPLACE(name, '\s+', ' '))));
+
+-- Names that only differ in case or whitespace now conflict, as they already did for the sync
+CREATE UNIQUE INDEX uk_category_name_normalized ON competency_category(name_normalized);
+CREATE UNIQUE INDEX uk_role_name_normalized ON rolename(name_normalized);
+CREATE UNIQUE INDEX uk_skill_category_name_normalized ON skill(category_id, name_normalized);
@@ -0,0 +1,17 @@
+-- Store required levels as their ordinal value (1 = BASIS ... 4 = UITSTEKEND) instead of the enum name,
+-- so rows are smaller, reads need no string parsing and levels compare as numbers.
+
+ALTER TABLE role_skill_requirement ADD COLUMN required_level_code SMALLINT;
+
+UPDATE role_skill_requirement SET required_level_code = CASE required_level
+    WHEN 'BASIS' THEN 1
+    WHEN 'REDELIJK' THEN 2
+    WHEN 'GOED' THEN 3
+    WHEN 'UITSTEKEND' THEN 4
+END;
+
+ALTER TABLE role_skill_requirement DROP CONSTRAINT chk_required_level;
+ALTER TABLE role_skill_requirement DROP COLUMN required_level;
+ALTER TABLE role_skill_requirement ALTER COLUMN required_level_code RENAME TO required_level;
+ALTER TABLE role_skill_requirement ALTER COLUMN required_level SET NOT NULL;
+ALTER TABLE role_skill_requirement ADD CONSTRAINT chk_required_level CHECK (required_level BETWEEN 1 AND 4);
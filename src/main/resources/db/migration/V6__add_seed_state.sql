@@ -0,0 +1,10 @@
+-- Digest of the seed the competency data was last synced from (one row), so a persistent database can skip
+-- the startup sync when the seed has not changed.
+
+CREATE TABLE seed_state (
+    id INTEGER PRIMARY KEY,
+    seed_digest VARCHAR(64) NOT NULL,
+    sync_mode VARCHAR(10) NOT NULL,
+    synced_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_seed_state_single_row CHECK (id = 1)
+);
@@ -0,0 +1,11 @@
+-- Counter bumped by every sync that changes competency data (one row). Instances sharing the database poll it
+-- and rebuild their in-memory model when it moved.
+
+CREATE TABLE data_generation (
+    id INTEGER PRIMARY KEY,
+    generation BIGINT NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_data_generation_single_row CHECK (id = 1)
+);
+
+INSERT INTO data_generation (id, generation, changed_at) VALUES (1, 0, CURRENT_TIMESTAMP);
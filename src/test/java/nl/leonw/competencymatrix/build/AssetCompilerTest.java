@@ -0,0 +1,76 @@
+package nl.leonw.competencymatrix.build;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetCompilerTest {
+
+    @Test
+    void minifiesCssWithoutChangingSelectorsOrStrings() {
+        String css = """
+                /* Header */
+                .card :hover,
+                .card > h4 {
+                    content: "a  b";
+                    margin: 0 auto;
+                }
+                """;
+
+        assertEquals(".card :hover,.card>h4{content:\"a  b\";margin:0 auto}", AssetCompiler.minifyCss(css));
+    }
+
+    @Test
+    void minifiesJsKeepingStatementBreaksAndLiterals() {
+        String js = """
+                /**
+                 * Doc comment
+                 */
+                function show(id) {
+                    // Line comment
+                    const text = `a  ${id}`
+                    const path = '/x//y'
+                    return /[/]+/.test(path) + text
+                }
+                """;
+
+        assertEquals("function show(id){const text=`a  ${id}`\nconst path='/x//y'\nreturn/[/]+/.test(path)+text}",
+                AssetCompiler.minifyJs(js));
+    }
+
+    @Test
+    void keepsNestedTemplateLiteralsInSubstitutionsUnchanged() {
+        String js = "const link = `<a href=\"${ok ? `https://example.org/${ {a: 1}.a }  x` : '}'}\">`;  // link\n";
+
+        assertEquals("const link=`<a href=\"${ok ? `https://example.org/${ {a: 1}.a }  x` : '}'}\">`;",
+                AssetCompiler.minifyJs(js));
+    }
+
+    @Test
+    void keepsSpaceBetweenIdentifiersAndRepeatedSigns() {
+        assertEquals("let a=b+ +c;var x=typeof y", AssetCompiler.minifyJs("let a = b + +c; var x = typeof y"));
+    }
+
+    @Test
+    void hashesContentIntoFileName() {
+        String first = AssetCompiler.hashedPath("css/theme.css", "a{}".getBytes(UTF_8));
+
+        assertTrue(first.matches("css/theme\\.[0-9a-f]{10}\\.css"), first);
+        assertEquals(first, AssetCompiler.hashedPath("css/theme.css", "a{}".getBytes(UTF_8)));
+        assertNotEquals(first, AssetCompiler.hashedPath("css/theme.css", "b{}".getBytes(UTF_8)));
+    }
+
+    @Test
+    void gzipRoundTrips() throws IOException {
+        byte[] content = "body{margin:0}".repeat(50).getBytes(UTF_8);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(AssetCompiler.gzip(content)))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package nl.leonw.competencymatrix.build;
+
+import nl.leonw.competencymatrix.config.CompiledSeed;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeedCompilerTest {
+
+    @TempDir
+    Path classesDir;
+
+    @Test
+    void compilesValidSeed() throws Exception {
+        writeSeed("- { from: Junior, to: Senior }\n");
+
+        SeedCompiler.main(new String[]{classesDir.toString()});
+
+        try (InputStream in = Files.newInputStream(classesDir.resolve(CompiledSeed.RESOURCE))) {
+            assertEquals(1, CompiledSeed.read(in).progressions().size());
+        }
+    }
+
+    @Test
+    void failsOnMalformedProgressions() throws IOException {
+        writeSeed("- { from: Junior, to: Senior\n");
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> SeedCompiler.main(new String[]{classesDir.toString()}));
+
+        assertTrue(e.getMessage().contains("progressions.yaml"), e.getMessage());
+        assertFalse(Files.exists(classesDir.resolve(CompiledSeed.RESOURCE)));
+    }
+
+    private void writeSeed(String progressions) throws IOException {
+        Path seed = classesDir.resolve("seed");
+        Files.createDirectories(seed.resolve("categories"));
+        Files.createDirectories(seed.resolve("roles"));
+        Files.writeString(seed.resolve("categories/index.txt"), "programming.yaml\n");
+        Files.writeString(seed.resolve("categories/programming.yaml"), """
+                name: Programming
+                skills:
+                  - name: Java
+                    levels: { basis: B, redelijk: R, goed: G, uitstekend: U }
+                """);
+        Files.writeString(seed.resolve("roles/index.txt"), "junior.yaml\nsenior.yaml\n");
+        Files.writeString(seed.resolve("roles/junior.yaml"), """
+                name: Junior
+                description: Starts
+                roleFamily: Developer
+                seniorityOrder: 1
+                requirements:
+                  - { skill: Java, category: Programming, level: basis }
+                """);
+        Files.writeString(seed.resolve("roles/senior.yaml"), """
+                name: Senior
+                description: Leads
+                roleFamily: Developer
+                seniorityOrder: 2
+                requirements: []
+                """);
+        Files.writeString(seed.resolve("progressions.yaml"), progressions);
+    }
+}
@@ -1,9 +1,10 @@
 package nl.leonw.competencymatrix.config;
 
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
 import nl.leonw.competencymatrix.model.Role;
 import nl.leonw.competencymatrix.model.RoleProgression;
 import nl.leonw.competencymatrix.model.RoleSkillRequirement;
@@ -12,6 +13,7 @@ import nl.leonw.competencymatrix.repository.CategoryRepository;
 import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
 import nl.leonw.competencymatrix.repository.RoleRepository;
 import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SeedStateRepository;
 import nl.leonw.competencymatrix.repository.SkillRepository;
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +47,9 @@ class CompetencySyncServiceTest {
     @Inject
     RoleProgressionRepository progressionRepository;
 
+    @Inject
+    SeedStateRepository seedStateRepository;
+
     @Test
     void testParseYaml_validStructure() {
         // Given
@@ -171,7 +176,7 @@ class CompetencySyncServiceTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void syncMerge_updatesExistingCategory() {
         CompetencyCategory existing = categoryRepository.save(new CompetencyCategory(null, "MergeCategory", 1));
 
@@ -190,7 +195,7 @@ class CompetencySyncServiceTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void syncMerge_updatesExistingSkill() {
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "SkillCategory", 1));
         skillRepository.save(new Skill(null, "MergeSkill", category.id(), "Old", "Old", "Old", "Old"));
@@ -214,7 +219,7 @@ class CompetencySyncServiceTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void syncMerge_updatesExistingRole() {
         Role existing = roleRepository.save(new Role(null, "MergeRole", "Old description", "Other", 999));
 
@@ -237,12 +242,12 @@ class CompetencySyncServiceTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void syncReplace_deletesEntitiesInDependencyOrder() {
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "ReplaceCategory", 1));
         Skill skill = skillRepository.save(new Skill(null, "ReplaceSkill", category.id(), "B", "D", "G", "E"));
         Role role = roleRepository.save(new Role(null, "ReplaceRole", "Desc", "Other", 999));
-        requirementRepository.save(new RoleSkillRequirement(null, role.id(), skill.id(), "GOED"));
+        requirementRepository.save(new RoleSkillRequirement(null, role.id(), skill.id(), ProficiencyLevel.GOED));
         Role toRole = roleRepository.save(new Role(null, "ReplaceRoleNext", "Desc", "Other", 999));
         progressionRepository.save(new RoleProgression(null, role.id(), toRole.id()));
 
@@ -301,7 +306,7 @@ class CompetencySyncServiceTest {
      * This tests that a single category file can be loaded from the split structure
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testLoadCategoryFile_programming() {
         // Given: The split category files exist in src/main/resources/seed/categories/
         // When: Application loads (sync happens on startup)
@@ -333,7 +338,7 @@ class CompetencySyncServiceTest {
      * T013: Integration test - Load all category files, verify 6 categories merged correctly
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testLoadAllCategories_mergedCorrectly() {
         // Given: All 6 category files exist
         // When: Application loads
@@ -390,7 +395,7 @@ class CompetencySyncServiceTest {
      * T025: Integration test - Load junior-developer.yaml, verify RoleData
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testLoadRoleFile_juniorDeveloper() {
         // Given: The split role files exist in src/main/resources/seed/roles/
         // When: Application loads
@@ -412,7 +417,7 @@ class CompetencySyncServiceTest {
      * T026: Integration test - Load all role files, verify 9 roles merged correctly
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testLoadAllRoles_mergedCorrectly() {
         // Given: All 9 role files exist
         // When: Application loads
@@ -467,7 +472,7 @@ class CompetencySyncServiceTest {
      * T029: Integration test - Role requirements reference valid categories and skills from category files
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testRoleRequirements_validReferences() {
         // Given: Roles reference skills from categories
         // When: Application loads
@@ -578,7 +583,7 @@ class CompetencySyncServiceTest {
      * T046: Integration test - Load progressions.yaml, verify all progressions
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testLoadProgressions_fromFile() {
         // Given: progressions.yaml exists with progression data
         // When: Application loads
@@ -626,7 +631,7 @@ class CompetencySyncServiceTest {
      * T048: Integration test - Invalid progression references non-existent role and validation fails
      */
     @Test
-    @Transactional
+    @TestTransaction
     void testProgressionValidation_validRoleReferences() {
         // Given: Progressions reference roles
         // When: Application loads
@@ -659,4 +664,56 @@ class CompetencySyncServiceTest {
         assertEquals("Junior Developer", fromRole.name());
         assertEquals("Medior Developer", toRole.name());
     }
+
+    @Test
+    void testSyncAtStartup_skipsWhenSeedUnchanged() {
+        // Given - a sync from the configured seed records its digest
+        syncService.syncFromConfiguration();
+        String digest = seedStateRepository.find().orElseThrow().seedDigest();
+
+        // When
+        SyncResult result = syncService.syncAtStartup();
+
+        // Then - nothing was planned or written
+        assertEquals("Sync complete: no changes", result.formatSummary());
+        assertTrue(result.timings().stream().noneMatch(timing -> timing.phase() == SyncPhase.PLAN));
+        assertEquals(digest, seedStateRepository.find().orElseThrow().seedDigest());
+    }
+
+    @Test
+    void testSyncAtStartup_syncsAfterSeedStateCleared() {
+        // Given
+        syncService.syncFromConfiguration();
+        seedStateRepository.delete();
+
+        // When
+        SyncResult result = syncService.syncAtStartup();
+
+        // Then - the sync ran and recorded the seed again
+        assertTrue(result.timings().stream().anyMatch(timing -> timing.phase() == SyncPhase.PLAN));
+        assertTrue(seedStateRepository.find().isPresent());
+    }
+
+    @Test
+    void testSyncCsv_laysRequirementsOverSeed() {
+        // Given - the configured seed, with the first skill of the first category
+        syncService.syncFromConfiguration();
+        Skill skill = skillRepository.findAllOrderByName().getFirst();
+        CompetencyCategory category = categoryRepository.findById(skill.categoryId()).orElseThrow();
+        String csv = "Category,Skill,CSV Test Role\n\"" + category.name() + "\",\"" + skill.name() + "\",3\n";
+
+        // When
+        SyncResult result = syncService.syncCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Then - one role and one requirement added, reported like a YAML sync
+        assertEquals(1, result.rolesAdded());
+        assertEquals(1, result.requirementsAdded());
+        Role role = roleRepository.findByNameIgnoreCase("csv test role").orElseThrow();
+        assertEquals(ProficiencyLevel.GOED,
+                requirementRepository.findByRoleIdAndSkillId(role.id(), skill.id()).orElseThrow().requiredLevel());
+
+        // Restore the seed; replace mode removes the CSV role again
+        syncService.syncFromConfiguration();
+        assertTrue(roleRepository.findByNameIgnoreCase("csv test role").isEmpty());
+    }
 }
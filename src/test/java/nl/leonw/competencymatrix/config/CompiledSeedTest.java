@@ -0,0 +1,73 @@
+package nl.leonw.competencymatrix.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledSeedTest {
+
+    @Test
+    void roundTripsBundledSeed() throws IOException {
+        YamlCompetencyData source = new SeedLoader(getClass().getClassLoader(), "seed").load();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledSeed.write(source, out);
+        YamlCompetencyData compiled = CompiledSeed.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(source, compiled);
+    }
+
+    @Test
+    void preservesNullableRoleFields() throws IOException {
+        YamlCompetencyData source = new YamlCompetencyData(
+                List.of(new YamlCompetencyData.CategoryData("Programming", 0, List.of(
+                        new YamlCompetencyData.SkillData("Java", "Programming",
+                                Map.of("basis", "B", "redelijk", "R", "goed", "G", "uitstekend", "U"))))),
+                List.of(new YamlCompetencyData.RoleData("Developer", "", null, null, List.of(
+                        new YamlCompetencyData.RequirementData("Java", "Programming", "goed")))),
+                List.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledSeed.write(source, out);
+        YamlCompetencyData compiled = CompiledSeed.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(source, compiled);
+    }
+
+    @Test
+    void digestIsTheSameForEqualSeedsAndChangesWithContent() throws IOException {
+        YamlCompetencyData source = new SeedLoader(getClass().getClassLoader(), "seed").load();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledSeed.write(source, out);
+        YamlCompetencyData compiled = CompiledSeed.read(new ByteArrayInputStream(out.toByteArray()));
+        YamlCompetencyData withoutProgressions = new YamlCompetencyData(source.categories(), source.roles(), List.of());
+
+        assertEquals(64, CompiledSeed.digest(source).length());
+        assertEquals(CompiledSeed.digest(source), CompiledSeed.digest(compiled));
+        assertNotEquals(CompiledSeed.digest(source), CompiledSeed.digest(withoutProgressions));
+    }
+
+    @Test
+    void rejectsUnresolvedRequirementReferences() {
+        YamlCompetencyData data = new YamlCompetencyData(
+                List.of(),
+                List.of(new YamlCompetencyData.RoleData("Developer", "", "Developer", 1, List.of(
+                        new YamlCompetencyData.RequirementData("Java", "Programming", "goed")))),
+                List.of());
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> SeedValidator.validateReferences(data));
+        assertTrue(e.getMessage().contains("Java"));
+    }
+
+    @Test
+    void rejectsCorruptResource() {
+        assertThrows(IOException.class,
+                () -> CompiledSeed.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})));
+    }
+}
@@ -0,0 +1,140 @@
+package nl.leonw.competencymatrix.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvSeedReaderTest {
+
+    private final YamlCompetencyData seed = new YamlCompetencyData(
+            List.of(new YamlCompetencyData.CategoryData("Programming", 1, List.of(
+                    skill("Java"), skill("SQL")))),
+            List.of(new YamlCompetencyData.RoleData("Junior Developer", "Starts", "Developer", 1, List.of(
+                    new YamlCompetencyData.RequirementData("Java", "Programming", "basis"),
+                    new YamlCompetencyData.RequirementData("SQL", "Programming", "basis"))),
+                    new YamlCompetencyData.RoleData("Tester", "Tests", "Quality", 1, List.of(
+                            new YamlCompetencyData.RequirementData("SQL", "Programming", "goed")))),
+            List.of());
+
+    @Test
+    void overlaysTheCellsOfTheCsv() {
+        YamlCompetencyData data = CsvSeedReader.overlay(seed, new StringReader("""
+                \uFEFFCategory,Skill,junior developer,Architect\r
+                Programming,JAVA,3,Uitstekend\r
+                Design,"Patterns, GoF",,1\r
+                """));
+
+        // Seed spelling wins; SQL has no row, so its seed requirement stays
+        YamlCompetencyData.RoleData junior = role(data, "Junior Developer");
+        assertEquals("Starts", junior.description());
+        assertEquals(List.of(
+                new YamlCompetencyData.RequirementData("Java", "Programming", "goed"),
+                new YamlCompetencyData.RequirementData("SQL", "Programming", "basis")), junior.requirements());
+
+        // Roles without a column keep their requirements; new roles and categories are added
+        assertEquals(seed.roles().get(1), role(data, "Tester"));
+        YamlCompetencyData.RoleData architect = role(data, "Architect");
+        assertEquals("", architect.description());
+        assertEquals("Other", architect.roleFamily());
+        assertEquals(List.of(
+                new YamlCompetencyData.RequirementData("Java", "Programming", "uitstekend"),
+                new YamlCompetencyData.RequirementData("Patterns, GoF", "Design", "basis")), architect.requirements());
+
+        YamlCompetencyData.CategoryData design = data.categories().get(1);
+        assertEquals("Design", design.name());
+        assertEquals(2, design.displayOrder());
+        assertEquals(Map.of("basis", "", "redelijk", "", "goed", "", "uitstekend", ""),
+                design.skills().getFirst().levels());
+        SeedValidator.validateStructure(data);
+        SeedValidator.validateReferences(data);
+    }
+
+    @Test
+    void emptyCellRemovesRequirementAndSkillColumnMayComeFirst() {
+        YamlCompetencyData data = CsvSeedReader.overlay(seed, new StringReader("""
+                Skill,Category,Junior Developer
+                SQL,Programming,
+                """));
+
+        assertEquals(List.of(new YamlCompetencyData.RequirementData("Java", "Programming", "basis")),
+                role(data, "Junior Developer").requirements());
+    }
+
+    @Test
+    void unchangedLevelKeepsSeedRequirement() {
+        YamlCompetencyData data = CsvSeedReader.overlay(seed, new StringReader("""
+                Category,Skill,Junior Developer
+                Programming,Java,Basis
+                Programming,SQL,1
+                """));
+
+        assertEquals(seed.roles(), data.roles());
+        assertEquals(CompiledSeed.digest(seed), CompiledSeed.digest(data));
+    }
+
+    @Test
+    void addsSkillsWithLevelsInLevelOrderSoTheDigestIsStable() {
+        YamlCompetencyData data = CsvSeedReader.overlay(seed, new StringReader("""
+                Category,Skill,Tester
+                Design,Patterns,1
+                """));
+
+        YamlCompetencyData.SkillData patterns = data.categories().get(1).skills().getFirst();
+        assertEquals(List.of("basis", "redelijk", "goed", "uitstekend"), List.copyOf(patterns.levels().keySet()));
+
+        Map<String, String> ordered = new LinkedHashMap<>();
+        List.of("basis", "redelijk", "goed", "uitstekend").forEach(level -> ordered.put(level, ""));
+        YamlCompetencyData expected = new YamlCompetencyData(
+                List.of(data.categories().get(0), new YamlCompetencyData.CategoryData("Design", 2,
+                        List.of(new YamlCompetencyData.SkillData("Patterns", "Design", ordered)))),
+                data.roles(), data.progressions());
+        assertEquals(CompiledSeed.digest(expected), CompiledSeed.digest(data));
+    }
+
+    @Test
+    void rejectsUnknownLevelWithLine() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> CsvSeedReader.overlay(seed,
+                new StringReader("Category,Skill,Tester\nProgramming,Java,5\n")));
+
+        assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        assertTrue(e.getMessage().contains("'5'"), e.getMessage());
+    }
+
+    @Test
+    void rejectsHeaderWithoutSkillAndCategory() {
+        assertThrows(RuntimeException.class, () -> CsvSeedReader.overlay(seed,
+                new StringReader("Role,Skill,Tester\n")));
+    }
+
+    @Test
+    void recordReaderHandlesQuotesAndLineBreaks() throws IOException {
+        CsvSeedReader.RecordReader reader = new CsvSeedReader.RecordReader(
+                new StringReader("a,\"b \"\"c\"\"\r\nd\",\r\n\"\",e\n"));
+
+        assertEquals(List.of("a", "b \"c\"\r\nd", ""), reader.next());
+        assertEquals(List.of("", "e"), reader.next());
+        assertEquals(3, reader.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void unescapeUndoesFormulaPrefixOfExport() {
+        assertEquals("=SUM", CsvSeedReader.unescape("'=SUM"));
+        assertEquals("'quoted'", CsvSeedReader.unescape("'quoted'"));
+    }
+
+    private static YamlCompetencyData.SkillData skill(String name) {
+        return new YamlCompetencyData.SkillData(name, "Programming",
+                Map.of("basis", "b", "redelijk", "r", "goed", "g", "uitstekend", "u"));
+    }
+
+    private static YamlCompetencyData.RoleData role(YamlCompetencyData data, String name) {
+        return data.roles().stream().filter(role -> role.name().equals(name)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,69 @@
+package nl.leonw.competencymatrix.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.leonw.competencymatrix.service.CompetencyModel;
+import nl.leonw.competencymatrix.service.CompetencyModelLoaded;
+import nl.leonw.competencymatrix.service.CompetencySnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSeederTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void retriesFailedStartupSyncUntilItSucceeds() {
+        DataSeeder seeder = seeder(2);
+
+        seeder.seedWithRetry();
+
+        assertEquals(3, attempts.get());
+        assertEquals(DataSeeder.State.READY, seeder.state());
+        assertNull(seeder.failure());
+    }
+
+    @Test
+    void laterModelLoadMakesFailedInstanceReady() throws InterruptedException {
+        DataSeeder seeder = seeder(Integer.MAX_VALUE);
+        seeder.retryDelay = Duration.ofSeconds(10);
+        Thread retrying = Thread.ofPlatform().start(seeder::seedWithRetry);
+        while (seeder.state() != DataSeeder.State.FAILED) {
+            Thread.sleep(10);
+        }
+
+        seeder.onModelLoaded(new CompetencyModelLoaded(null));
+
+        assertEquals(DataSeeder.State.READY, seeder.state());
+        assertNull(seeder.failure());
+        retrying.interrupt();
+        retrying.join();
+        assertEquals(1, attempts.get());
+    }
+
+    private DataSeeder seeder(int failures) {
+        DataSeeder seeder = new DataSeeder();
+        seeder.competencySyncService = new CompetencySyncService() {
+            @Override
+            public SyncResult syncAtStartup() {
+                if (attempts.incrementAndGet() <= failures) {
+                    throw new RuntimeException("Connection refused");
+                }
+                return new SyncResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+            }
+        };
+        seeder.competencyModel = new CompetencyModel() {
+            @Override
+            public CompetencySnapshot reload() {
+                return null;
+            }
+        };
+        seeder.meterRegistry = new SimpleMeterRegistry();
+        seeder.retryDelay = Duration.ofMillis(1);
+        seeder.maxRetryDelay = Duration.ofMillis(2);
+        return seeder;
+    }
+}
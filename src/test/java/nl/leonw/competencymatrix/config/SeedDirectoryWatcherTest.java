@@ -0,0 +1,162 @@
+package nl.leonw.competencymatrix.config;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hot reload from an external seed directory: edits are picked up by the watcher and synced without restart.
+ */
+@QuarkusTest
+@TestProfile(SeedDirectoryWatcherTest.ExternalSeedProfile.class)
+class SeedDirectoryWatcherTest {
+
+    static final Path SEED_DIRECTORY = createSeedDirectory();
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Inject
+    RoleProgressionRepository progressionRepository;
+
+    public static class ExternalSeedProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "competency.seed.directory", SEED_DIRECTORY.toString(),
+                    "competency.seed.watch.debounce", "100ms");
+        }
+    }
+
+    @Test
+    void startupSync_loadsExternalDirectoryInsteadOfBundledSeed() {
+        assertTrue(categoryRepository.findByNameIgnoreCase("Watched").isPresent());
+        assertTrue(roleRepository.findByNameIgnoreCase("Watcher").isPresent());
+        assertTrue(categoryRepository.findByNameIgnoreCase("Programming").isEmpty());
+    }
+
+    @Test
+    void modifiedFile_isSyncedWithoutRestart() throws IOException {
+        writeCategory("watched.yaml", "Watched", "Hot Reload", "Past de seed aan");
+
+        Skill skill = awaitPresent(() -> categoryRepository.findByNameIgnoreCase("Watched")
+                .flatMap(category -> skillRepository.findByNameAndCategoryIdIgnoreCase("Hot Reload", category.id()))
+                .filter(s -> s.goodDescription().equals("Past de seed aan")));
+
+        assertEquals("Hot Reload", skill.name());
+    }
+
+    @Test
+    void addedFile_isSyncedWithoutRestart() throws IOException {
+        writeCategory("added.yaml", "Added Later", "New Skill", "Goed");
+
+        CompetencyCategory category = awaitPresent(() -> categoryRepository.findByNameIgnoreCase("Added Later"));
+
+        assertEquals(1, skillRepository.findByCategoryId(category.id()).size());
+    }
+
+    @Test
+    void brokenProgressionsFile_keepsProgressions() throws IOException, InterruptedException {
+        Path progressions = SEED_DIRECTORY.resolve("progressions.yaml");
+        String valid = Files.readString(progressions);
+        assertEquals(1, progressionRepository.count());
+        try {
+            Files.writeString(progressions, "- { from: Watcher, to: Watch Lead\n");
+            Thread.sleep(500);
+            // A later change to another file is still applied, with the last good progressions
+            writeCategory("after-broken.yaml", "After Broken", "Recovery", "Goed");
+            awaitPresent(() -> categoryRepository.findByNameIgnoreCase("After Broken"));
+
+            assertEquals(1, progressionRepository.count());
+        } finally {
+            Files.writeString(progressions, valid);
+        }
+    }
+
+    private static <T> T awaitPresent(Supplier<Optional<T>> lookup) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<T> value = lookup.get();
+            if (value.isPresent()) {
+                return value.get();
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("Seed directory change was not synced in time");
+    }
+
+    private static Path createSeedDirectory() {
+        try {
+            Path root = Files.createTempDirectory("competency-seed");
+            Files.createDirectories(root.resolve("categories"));
+            Files.createDirectories(root.resolve("roles"));
+            writeCategory(root, "watched.yaml", "Watched", "Hot Reload", "Goed");
+            Files.writeString(root.resolve("roles/watcher.yaml"), """
+                    name: Watcher
+                    roleFamily: Developer
+                    seniorityOrder: 1
+                    description: Watches the seed directory
+                    requirements:
+                      - { skill: Hot Reload, category: Watched, level: goed }
+                    """);
+            Files.writeString(root.resolve("roles/watch-lead.yaml"), """
+                    name: Watch Lead
+                    roleFamily: Developer
+                    seniorityOrder: 2
+                    description: Leads the watchers
+                    requirements:
+                      - { skill: Hot Reload, category: Watched, level: uitstekend }
+                    """);
+            Files.writeString(root.resolve("progressions.yaml"), "- { from: Watcher, to: Watch Lead }\n");
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCategory(String file, String category, String skill, String goed) throws IOException {
+        writeCategory(SEED_DIRECTORY, file, category, skill, goed);
+    }
+
+    private static void writeCategory(Path root, String file, String category, String skill, String goed) throws IOException {
+        Files.writeString(root.resolve("categories").resolve(file), """
+                name: %s
+                skills:
+                  - name: %s
+                    levels:
+                      basis: Basis
+                      redelijk: Redelijk
+                      goed: %s
+                      uitstekend: Uitstekend
+                """.formatted(category, skill, goed));
+    }
+}
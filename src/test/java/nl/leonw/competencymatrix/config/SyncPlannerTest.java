@@ -0,0 +1,109 @@
+package nl.leonw.competencymatrix.config;
+
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SyncPlannerTest {
+
+    @Inject
+    SyncPlanner syncPlanner;
+
+    @Inject
+    CompetencySyncService syncService;
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Test
+    @TestTransaction
+    void plan_doesNotWriteToDatabase() {
+        SyncPlan plan = syncPlanner.plan(planData("PlanOnlyCategory", "Plan description"), SyncMode.MERGE);
+
+        assertEquals(1, plan.categories().inserts().size());
+        assertEquals(1, plan.skills().inserts().size());
+        assertEquals(1, plan.roles().inserts().size());
+        assertEquals(1, plan.requirements().inserts().size());
+        assertTrue(categoryRepository.findByNameIgnoreCase("PlanOnlyCategory").isEmpty());
+    }
+
+    @Test
+    @TestTransaction
+    void applyingPlanTwice_secondPlanIsEmpty() {
+        YamlCompetencyData data = planData("PlanCategory", "Plan description");
+        syncService.syncMerge(data);
+
+        SyncPlan secondPlan = syncPlanner.plan(data, SyncMode.MERGE);
+
+        assertTrue(secondPlan.isEmpty(), "Expected no changes but got " + secondPlan.toResult());
+        assertEquals("Sync complete: no changes", syncService.applyPlan(secondPlan).formatSummary());
+    }
+
+    @Test
+    @TestTransaction
+    void plan_containsOnlyChangedEntities() {
+        syncService.syncMerge(planData("DeltaCategory", "Old description"));
+
+        SyncPlan plan = syncPlanner.plan(planData("DeltaCategory", "New description"), SyncMode.MERGE);
+
+        assertEquals(1, plan.changeCount());
+        assertEquals(1, plan.roles().updates().size());
+        assertEquals("New description", plan.roles().updates().get(0).description());
+    }
+
+    @Test
+    @TestTransaction
+    void replacePlan_deletesEntitiesNotInYamlAndKeepsIds() {
+        YamlCompetencyData data = planData("ReplacePlanCategory", "Description");
+        syncService.syncReplace(data);
+        CompetencyCategory category = categoryRepository.findByNameIgnoreCase("ReplacePlanCategory").orElseThrow();
+        Skill skill = skillRepository.findByNameAndCategoryIdIgnoreCase("PlanSkill", category.id()).orElseThrow();
+        roleRepository.save(new Role(null, "UnlistedRole", "Not in YAML", "Other", 999));
+
+        SyncPlan plan = syncPlanner.plan(data, SyncMode.REPLACE);
+        syncService.applyPlan(plan);
+
+        assertEquals(1, plan.changeCount());
+        assertEquals("UnlistedRole", plan.roles().deletes().get(0).name());
+        assertTrue(roleRepository.findByNameIgnoreCase("UnlistedRole").isEmpty());
+        assertEquals(category.id(), categoryRepository.findByNameIgnoreCase("ReplacePlanCategory").orElseThrow().id());
+        assertEquals(skill.id(), skillRepository.findByNameAndCategoryIdIgnoreCase("PlanSkill", category.id()).orElseThrow().id());
+    }
+
+    @Test
+    void nonePlan_isEmpty() {
+        assertTrue(syncPlanner.plan(planData("NoneCategory", "Description"), SyncMode.NONE).isEmpty());
+    }
+
+    private YamlCompetencyData planData(String categoryName, String roleDescription) {
+        YamlCompetencyData.SkillData skill = new YamlCompetencyData.SkillData(
+                "PlanSkill", categoryName,
+                Map.of("basis", "B", "redelijk", "R", "goed", "G", "uitstekend", "U"));
+        YamlCompetencyData.RoleData role = new YamlCompetencyData.RoleData(
+                "PlanRole", roleDescription, "Developer", 1,
+                List.of(new YamlCompetencyData.RequirementData("PlanSkill", categoryName, "goed")));
+        return new YamlCompetencyData(
+                List.of(new YamlCompetencyData.CategoryData(categoryName, 1, List.of(skill))),
+                List.of(role),
+                List.of());
+    }
+}
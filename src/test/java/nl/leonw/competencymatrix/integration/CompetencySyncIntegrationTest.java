@@ -1,9 +1,12 @@
 package nl.leonw.competencymatrix.integration;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.config.CompetencySyncService;
+import nl.leonw.competencymatrix.config.SyncMode;
+import nl.leonw.competencymatrix.config.SyncPlan;
 import nl.leonw.competencymatrix.config.SyncResult;
 import nl.leonw.competencymatrix.config.YamlCompetencyData;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
@@ -12,6 +15,7 @@ import nl.leonw.competencymatrix.model.RoleProgression;
 import nl.leonw.competencymatrix.model.RoleSkillRequirement;
 import nl.leonw.competencymatrix.model.Skill;
 import nl.leonw.competencymatrix.repository.CategoryRepository;
+import nl.leonw.competencymatrix.repository.DataGenerationRepository;
 import nl.leonw.competencymatrix.repository.RoleProgressionRepository;
 import nl.leonw.competencymatrix.repository.RoleRepository;
 import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
@@ -20,6 +24,12 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,8 +58,11 @@ class CompetencySyncIntegrationTest {
     @Inject
     RoleProgressionRepository progressionRepository;
 
+    @Inject
+    DataGenerationRepository dataGenerationRepository;
+
     @Test
-    @Transactional
+    @TestTransaction
     void replaceMode_replacesExistingDataCompletely() {
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "ToBeDeleted", 1));
         Skill skill = skillRepository.save(new Skill(null, "OldSkill", category.id(), "Basis", "Redelijk", "Goed", "Uitstekend"));
@@ -60,9 +73,10 @@ class CompetencySyncIntegrationTest {
         assertTrue(result.categoriesDeleted() >= 1);
         assertTrue(result.skillsDeleted() >= 1);
         assertTrue(result.rolesDeleted() >= 1);
-        assertTrue(result.categoriesAdded() >= 1);
-        assertTrue(result.skillsAdded() >= 1);
-        assertTrue(result.rolesAdded() >= 1);
+
+        // Replace applies only the delta: entities already matching the YAML are kept, so a rerun changes nothing
+        SyncResult rerun = syncService.syncReplace(createTestYamlData());
+        assertTrue(SyncPlan.empty(SyncMode.REPLACE).toResult().sameCounts(rerun), rerun.formatSummary());
 
         assertTrue(categoryRepository.findByNameIgnoreCase("ToBeDeleted").isEmpty());
         assertTrue(skillRepository.findByNameAndCategoryIdIgnoreCase("OldSkill", category.id()).isEmpty());
@@ -72,7 +86,7 @@ class CompetencySyncIntegrationTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void replaceMode_removesRolesNotInYaml() {
         Role extraRole = roleRepository.save(new Role(null, "ExtraRole", "Should be deleted", "Other", 999));
         Role extraRole2 = roleRepository.save(new Role(null, "ExtraRole2", "Should also be deleted", "Other", 999));
@@ -86,8 +100,14 @@ class CompetencySyncIntegrationTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void replaceMode_seedsFreshDatabaseWhenEmpty() {
+        progressionRepository.deleteAll();
+        requirementRepository.deleteAll();
+        skillRepository.deleteAll();
+        roleRepository.deleteAll();
+        categoryRepository.deleteAll();
+
         SyncResult result = syncService.syncReplace(createTestYamlData());
 
         assertTrue(result.categoriesAdded() >= 1);
@@ -133,7 +153,7 @@ class CompetencySyncIntegrationTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void noneMode_skipsSyncAndLeavesDatabaseUnchanged() {
         CompetencyCategory existingCategory = categoryRepository.save(new CompetencyCategory(null, "ExistingCategory", 1));
         Skill existingSkill = skillRepository.save(new Skill(null, "ExistingSkill", existingCategory.id(), "Basis", "Redelijk", "Goed", "Uitstekend"));
@@ -155,7 +175,7 @@ class CompetencySyncIntegrationTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void noneMode_keepsEmptyDatabaseEmpty() {
         roleRepository.deleteAll();
         skillRepository.deleteAll();
@@ -170,4 +190,34 @@ class CompetencySyncIntegrationTest {
         assertEquals(0, skillRepository.count());
         assertEquals(0, roleRepository.findAllOrderByName().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void concurrentSync_waitsForRunningSync() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Stands in for a sync in progress on another thread or instance
+            Future<?> running = executor.submit(() -> QuarkusTransaction.requiringNew().run(() -> {
+                dataGenerationRepository.lock();
+                locked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            Future<SyncResult> sync = executor.submit(() -> syncService.syncFromConfiguration());
+            assertThrows(TimeoutException.class, () -> sync.get(500, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            assertNotNull(sync.get(30, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +20,7 @@ class CategoryRepositoryTest {
     SkillRepository skillRepository;
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_exactMatch() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategoryExact", 1);
@@ -35,7 +35,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_lowercase() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategoryLower", 1);
@@ -50,7 +50,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_uppercase() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategoryUpper", 1);
@@ -65,7 +65,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_mixedCase() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategoryMixed", 1);
@@ -80,7 +80,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_withExtraSpaces() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategorySpaces", 1);
@@ -95,7 +95,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameIgnoreCase_notFound() {
         // Given
         CompetencyCategory category = new CompetencyCategory(null, "TestCategoryNotFound", 1);
@@ -109,7 +109,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testDeleteAll() {
         // Given
         categoryRepository.save(new CompetencyCategory(null, "DeleteCategoryOne", 1));
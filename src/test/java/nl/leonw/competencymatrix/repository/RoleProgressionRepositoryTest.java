@@ -1,8 +1,8 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.Role;
 import nl.leonw.competencymatrix.model.RoleProgression;
 import org.junit.jupiter.api.Test;
@@ -19,7 +19,7 @@ class RoleProgressionRepositoryTest {
     RoleRepository roleRepository;
 
     @Test
-    @Transactional
+    @TestTransaction
     void testDeleteAll() {
         // Given - create test data with unique names
         Role role1 = roleRepository.save(new Role(null, "TestJuniorProg", "Test junior", "Other", 999));
@@ -38,7 +38,7 @@ class RoleProgressionRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testDeleteAll_withSeedData() {
         // When - delete from table (may have seed data)
         int deleted = progressionRepository.deleteAll();
@@ -1,11 +1,14 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @QuarkusTest
@@ -24,13 +27,59 @@ class RoleSkillRequirementRepositoryTest {
     CategoryRepository categoryRepository;
 
     @Test
-    @Transactional
+    @TestTransaction
+    void testSaveAndFind_mapsStoredLevelToEnum() {
+        // Given
+        CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestCategoryForLevels", 999));
+        Role role = roleRepository.save(new Role(null, "TestRoleForLevels", "Desc", "Other", 999));
+
+        for (ProficiencyLevel level : ProficiencyLevel.values()) {
+            Skill skill = skillRepository.save(new Skill(null, "TestSkillForLevel" + level, category.id(), "B", "D", "G", "E"));
+
+            // When
+            RoleSkillRequirement saved = requirementRepository.save(new RoleSkillRequirement(role.id(), skill.id(), level));
+
+            // Then
+            assertEquals(level, requirementRepository.findById(saved.id()).orElseThrow().requiredLevel());
+            assertTrue(requirementRepository.findByRoleIdAndSkillIdAndRequiredLevel(role.id(), skill.id(), level).isPresent());
+        }
+    }
+
+    @Test
+    @TestTransaction
+    void testBatchInsertUpdateAndDelete() {
+        // Given - more rows than one batch
+        CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestCategoryForBatch", 999));
+        Role role = roleRepository.save(new Role(null, "TestRoleForBatch", "Desc", "Other", 999));
+        List<RoleSkillRequirement> requirements = new ArrayList<>();
+        for (int i = 0; i <= RoleSkillRequirementRepository.BATCH_SIZE; i++) {
+            Skill skill = skillRepository.save(new Skill(null, "TestSkillForBatch" + i, category.id(), "B", "D", "G", "E"));
+            requirements.add(new RoleSkillRequirement(role.id(), skill.id(), ProficiencyLevel.BASIS));
+        }
+
+        // When
+        assertEquals(requirements.size(), requirementRepository.insertAll(requirements));
+        List<RoleSkillRequirement> stored = requirementRepository.findByRoleId(role.id());
+        requirementRepository.updateLevels(stored.stream()
+                .map(r -> new RoleSkillRequirement(r.id(), r.roleId(), r.skillId(), ProficiencyLevel.GOED))
+                .toList());
+
+        // Then
+        assertEquals(requirements.size(), stored.size());
+        assertTrue(requirementRepository.findByRoleId(role.id()).stream()
+                .allMatch(r -> r.requiredLevel() == ProficiencyLevel.GOED));
+        requirementRepository.deleteAllById(stored.stream().map(RoleSkillRequirement::id).toList());
+        assertTrue(requirementRepository.findByRoleId(role.id()).isEmpty());
+    }
+
+    @Test
+    @TestTransaction
     void testDeleteAll() {
         // Given - create test data with unique names
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestCategoryForReq", 999));
         Skill skill = skillRepository.save(new Skill(null, "TestSkillForReq", category.id(), "B", "D", "G", "E"));
         Role role = roleRepository.save(new Role(null, "TestRoleForReq", "Desc", "Other", 999));
-        RoleSkillRequirement req1 = requirementRepository.save(new RoleSkillRequirement(null, role.id(), skill.id(), "REDELIJK"));
+        RoleSkillRequirement req1 = requirementRepository.save(new RoleSkillRequirement(null, role.id(), skill.id(), ProficiencyLevel.REDELIJK));
 
         // Verify data exists
         assertTrue(requirementRepository.findById(req1.id()).isPresent());
@@ -47,7 +96,7 @@ class RoleSkillRequirementRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testDeleteAll_emptyTable() {
         // When - delete from table (may have seed data)
         int deleted = requirementRepository.deleteAll();
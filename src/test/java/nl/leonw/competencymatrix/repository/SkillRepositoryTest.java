@@ -1,8 +1,8 @@
 package nl.leonw.competencymatrix.repository;
 
+import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.CompetencyCategory;
 import nl.leonw.competencymatrix.model.Skill;
 import org.junit.jupiter.api.Test;
@@ -21,7 +21,7 @@ class SkillRepositoryTest {
     CategoryRepository categoryRepository;
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_exactMatch() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategoryExact", 1));
@@ -37,7 +37,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_lowercase() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategoryLower", 1));
@@ -53,7 +53,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_uppercase() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategoryUpper", 1));
@@ -69,7 +69,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_withSpaces() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategorySpaces", 1));
@@ -85,7 +85,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_wrongCategory() {
         // Given
         CompetencyCategory category1 = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategoryOne", 1));
@@ -101,7 +101,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testFindByNameAndCategoryIdIgnoreCase_notFound() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "TestSkillCategoryMissing", 1));
@@ -116,7 +116,7 @@ class SkillRepositoryTest {
     }
 
     @Test
-    @Transactional
+    @TestTransaction
     void testDeleteAll() {
         // Given
         CompetencyCategory category = categoryRepository.save(new CompetencyCategory(null, "DeleteSkills", 1));
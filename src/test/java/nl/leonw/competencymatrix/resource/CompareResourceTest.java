@@ -57,6 +57,7 @@ class CompareResourceTest {
             .header("HX-Request", "true")
             .when().get("/compare/skills")
             .then()
-                .statusCode(200);
+                .statusCode(200)
+                .body(containsString("comparison-summary"));
     }
 }
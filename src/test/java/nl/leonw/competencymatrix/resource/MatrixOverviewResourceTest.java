@@ -97,6 +97,100 @@ class MatrixOverviewResourceTest {
             .then()
                 .statusCode(200)
                 .body(containsString(skill.name()))
-                .body(containsString("Basis"));
+                .body(containsString("Basis"))
+                .body(containsString(skill.basicDescription()));
+    }
+
+    @Test
+    void shouldReturnReloadDryRunPlan() {
+        given()
+            .when().get("/matrix/reload/dry-run")
+            .then()
+                .statusCode(200)
+                .body("success", is(true))
+                .body("plan.mode", is("REPLACE"))
+                .body("summary", notNullValue());
+    }
+
+    @Test
+    void shouldRunReloadAsJobAndStreamPhaseProgress() throws InterruptedException {
+        String jobId = given()
+            .when().post("/matrix/reload")
+            .then()
+                .statusCode(202)
+                .header("Location", containsString("/matrix/reload/jobs/"))
+                .body("success", is(true))
+                .body("jobId", notNullValue())
+            .extract().path("jobId");
+
+        String state = "RUNNING";
+        for (int attempt = 0; attempt < 100 && state.equals("RUNNING"); attempt++) {
+            Thread.sleep(50);
+            state = given().when().get("/matrix/reload/jobs/{jobId}", jobId)
+                .then().statusCode(200)
+                .extract().path("state");
+        }
+
+        given()
+            .when().get("/matrix/reload/jobs/{jobId}", jobId)
+            .then()
+                .statusCode(200)
+                .body("state", is("SUCCEEDED"))
+                .body("phases.phase", contains("PARSE", "VALIDATE", "PLAN",
+                        "CATEGORIES", "SKILLS", "ROLES", "REQUIREMENTS", "PROGRESSIONS"))
+                .body("result", notNullValue())
+                .body("result.timings.phase", contains("PARSE", "VALIDATE", "PLAN",
+                        "CATEGORIES", "SKILLS", "ROLES", "REQUIREMENTS", "PROGRESSIONS"))
+                .body("result.timings.find { it.phase == 'PLAN' }.statements", greaterThan(0))
+                .body("result.timings.find { it.phase == 'PARSE' }.rowsPerSecond", greaterThan(0f));
+
+        given()
+            .when().get("/matrix/reload/jobs/{jobId}/events", jobId)
+            .then()
+                .statusCode(200)
+                .contentType(containsString("text/event-stream"))
+                .body(containsString("phase"))
+                .body(containsString("\"phase\":\"PROGRESSIONS\""))
+                .body(containsString("completed"));
+    }
+
+    @Test
+    void shouldReturn404ForUnknownReloadJob() {
+        given()
+            .when().get("/matrix/reload/jobs/{jobId}", "unknown")
+            .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void shouldExportMatrixAsCsv() {
+        String csv = given()
+            .when().get("/matrix/export.csv")
+            .then()
+                .statusCode(200)
+                .contentType(startsWith("text/csv"))
+                .header("Content-Disposition", "attachment; filename=\"competency-matrix.csv\"")
+                .extract().asString();
+
+        // Other tests replace the data, so only the layout is checked here (see MatrixCsvWriterTest)
+        org.junit.jupiter.api.Assertions.assertTrue(csv.startsWith("\uFEFFCategory,Skill"), csv);
+        org.junit.jupiter.api.Assertions.assertTrue(csv.endsWith("\r\n"), "Rows end with CRLF");
+    }
+
+    @Test
+    void shouldExportOnlyFilteredCategoryAsCsv() {
+        CompetencyCategory category = categoryRepository.findAllOrderByDisplayOrder().getFirst();
+
+        String csv = given()
+            .queryParam("category", category.id())
+            .when().get("/matrix/export.csv")
+            .then()
+                .statusCode(200)
+                .extract().asString();
+
+        String[] lines = csv.split("\r\n");
+        for (int i = 1; i < lines.length; i++) {
+            org.junit.jupiter.api.Assertions.assertTrue(lines[i].startsWith(category.name() + ",") || lines[i].startsWith("\"" + category.name()), lines[i]);
+        }
     }
 }
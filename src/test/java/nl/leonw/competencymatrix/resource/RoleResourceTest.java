@@ -4,11 +4,16 @@ import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
 import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.RoleSkillRequirementRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 
 @QuarkusTest
 class RoleResourceTest {
@@ -16,6 +21,12 @@ class RoleResourceTest {
     @Inject
     RoleRepository roleRepository;
 
+    @Inject
+    RoleSkillRequirementRepository requirementRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
     @Test
     void shouldLoadRoleDetailPage() {
         Role role = roleRepository.findByName("Junior Developer")
@@ -47,4 +58,76 @@ class RoleResourceTest {
             .then()
                 .statusCode(200);
     }
+
+    @Test
+    void shouldServePrerenderedCategoriesFragmentWithEtag() {
+        Role role = roleRepository.findAllOrderByName().getFirst();
+
+        String etag = given()
+            .header("HX-Request", "true")
+            .when().get("/roles/{id}/categories", role.id())
+            .then()
+                .statusCode(200)
+                .contentType(containsString("text/html"))
+                .header("ETag", notNullValue())
+                .header("Cache-Control", "no-cache")
+                .header("X-DB-Statements", "0")
+                .extract().header("ETag");
+
+        given()
+            .header("HX-Request", "true")
+            .header("If-None-Match", etag)
+            .when().get("/roles/{id}/categories", role.id())
+            .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    void shouldShowRequiredLevelDescriptionsInCategoriesFragment() {
+        // A requirement whose description survives HTML escaping unchanged
+        RoleSkillRequirement requirement = requirementRepository.findAll().stream()
+                .filter(req -> skillRepository.findById(req.skillId()).orElseThrow()
+                        .getDescriptionForLevel(req.requiredLevel()).matches("[\\w ,.-]+"))
+                .findFirst().orElseThrow();
+        String description = skillRepository.findById(requirement.skillId()).orElseThrow()
+                .getDescriptionForLevel(requirement.requiredLevel());
+
+        given()
+            .header("HX-Request", "true")
+            .when().get("/roles/{id}/categories", requirement.roleId())
+            .then()
+                .statusCode(200)
+                .body(containsString(description));
+    }
+
+    @Test
+    void shouldServeSyncedRoleFromModelWithoutStatements() {
+        Role role = roleRepository.findAllOrderByName().getFirst();
+
+        given()
+            .when().get("/roles/{id}", role.id())
+            .then()
+                .statusCode(200)
+                .body(containsString(role.name()))
+                .header("X-DB-Statements", "0");
+    }
+
+    @Test
+    void shouldReportStatementsPerRequestInHeaders() {
+        // Saved outside a sync, so not in the in-memory model: served from the database
+        Role role = roleRepository.save(new Role("Unsynced Role " + System.nanoTime(), "Not in the model"));
+        try {
+            given()
+                .when().get("/roles/{id}", role.id())
+                .then()
+                    .statusCode(200)
+                    .body(containsString(role.name()))
+                    .header("X-DB-Statements", notNullValue())
+                    .header("X-DB-Time-Ms", notNullValue())
+                    .header("X-DB-Statements", not("0"));
+        } finally {
+            roleRepository.deleteById(role.id());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class StaticAssetsTest {
+
+    private static final Pattern THEME_CSS = Pattern.compile("/assets/css/theme\\.[0-9a-f]{10}\\.css");
+
+    @Test
+    void shouldReferenceFingerprintedAssetsInLayout() {
+        given()
+            .when().get("/")
+            .then()
+                .statusCode(200)
+                .body(containsString("/assets/css/matrix."))
+                .body(containsString("/assets/js/matrix."))
+                .body(containsString("/assets/css/theme."));
+    }
+
+    @Test
+    void shouldServeBrotliVariantWhenAccepted() {
+        given()
+            .header("Accept-Encoding", "gzip, deflate, br")
+            .when().get(themeCssUrl())
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", "br")
+                .header("Content-Type", containsString("text/css"))
+                .header("Cache-Control", containsString("immutable"))
+                .header("Vary", "Accept-Encoding");
+    }
+
+    @Test
+    void shouldServeGzipVariantWhenBrotliIsNotAccepted() {
+        given()
+            .header("Accept-Encoding", "gzip, br;q=0")
+            .when().get(themeCssUrl())
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString(".level-badge{"));
+    }
+
+    @Test
+    void shouldServeMinifiedIdentityWithoutAcceptEncoding() {
+        given()
+            // Otherwise RestAssured sends Accept-Encoding: gzip,deflate
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .when().get(themeCssUrl())
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Cache-Control", equalTo(StaticAssets.CACHE_CONTROL))
+                .body(containsString(".level-badge{"));
+    }
+
+    @Test
+    void shouldNegotiateEncoding() {
+        assertEquals("br", StaticAssets.negotiate("gzip, br", true, true));
+        assertEquals("gzip", StaticAssets.negotiate("gzip, br", false, true));
+        assertEquals("gzip", StaticAssets.negotiate("*, br;q=0", true, true));
+        assertEquals("identity", StaticAssets.negotiate("identity", true, true));
+        assertEquals("identity", StaticAssets.negotiate(null, true, true));
+    }
+
+    private static String themeCssUrl() {
+        String page = given().when().get("/").then().statusCode(200).extract().asString();
+        Matcher matcher = THEME_CSS.matcher(page);
+        assertTrue(matcher.find(), "No fingerprinted theme.css in layout");
+        return matcher.group();
+    }
+}
@@ -0,0 +1,114 @@
+package nl.leonw.competencymatrix.resource;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.repository.RoleRepository;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pages that need the database run on virtual threads (the others are answered from the in-memory model
+ * on the event loop); a virtual thread that blocks while pinned to its carrier (e.g. inside a
+ * synchronized block or a native frame) holds up every other request on that carrier. Requests the pages
+ * concurrently and fails on any jdk.VirtualThreadPinned event raised in JDBC, Agroal, H2, Qute or
+ * application code. A sequential pass first creates the beans and templates, so concurrent first requests
+ * waiting on each other during lazy bean creation are not counted.
+ */
+@QuarkusTest
+class VirtualThreadPinningTest {
+
+    private static final List<String> WATCHED_PACKAGES = List.of(
+            "java.sql.", "io.agroal.", "org.h2.", "io.quarkus.qute.", "nl.leonw.competencymatrix.");
+
+    private static final int CLIENTS = 16;
+    private static final int ROUNDS = 10;
+
+    @TestHTTPResource("/")
+    URI baseUrl;
+
+    @Inject
+    RoleRepository roleRepository;
+
+    @Inject
+    SkillRepository skillRepository;
+
+    @Test
+    void shouldNotPinCarrierThreadsOnJdbcAndQutePaths() throws Exception {
+        List<Role> roles = roleRepository.findAllOrderByName();
+        int from = roles.getFirst().id();
+        int to = roles.getLast().id();
+        int skill = skillRepository.findAllOrderByName().getFirst().id();
+        List<String> paths = List.of("/", "/roles/" + from, "/roles/" + from + "/categories",
+                "/compare?from=" + from + "&to=" + to, "/compare/skills?from=" + from + "&to=" + to,
+                "/skills", "/skills/" + skill, "/matrix", "/matrix/tooltips/skill/" + skill + "?level=GOED");
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream();
+             HttpClient client = HttpClient.newHttpClient()) {
+            for (String path : paths) {
+                HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve(path)).GET().build();
+                assertEquals(200, client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            }
+
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            List<Future<Integer>> responses = new ArrayList<>();
+            try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+                for (int round = 0; round < ROUNDS; round++) {
+                    for (String path : paths) {
+                        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve(path)).GET().build();
+                        responses.add(clients.submit(() ->
+                                client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+                    }
+                }
+            }
+            for (Future<Integer> response : responses) {
+                assertEquals(200, response.get());
+            }
+            // Waits until the events recorded so far have been delivered
+            recording.stop();
+        }
+
+        List<String> offending = pinned.stream()
+                .filter(VirtualThreadPinningTest::inWatchedCode)
+                .map(VirtualThreadPinningTest::describe)
+                .toList();
+        assertTrue(offending.isEmpty(), "Virtual threads pinned:\n" + String.join("\n\n", offending));
+    }
+
+    private static boolean inWatchedCode(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .anyMatch(type -> WATCHED_PACKAGES.stream().anyMatch(type::startsWith));
+    }
+
+    private static String describe(RecordedEvent event) {
+        return event.getDuration().toNanos() / 1000 + " µs pinned at\n" + event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> "  " + method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
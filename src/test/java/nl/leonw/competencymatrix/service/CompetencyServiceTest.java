@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @QuarkusTest
 class CompetencyServiceTest {
@@ -58,6 +59,19 @@ class CompetencyServiceTest {
             .anyMatch(sr -> sr.skill().name().equals("Java") && sr.requiredLevel() == ProficiencyLevel.BASIS);
     }
 
+    @Test
+    void sharedResultsShouldBeUnmodifiable() {
+        Map<CompetencyCategory, List<CompetencyService.SkillWithRequirement>> result =
+            competencyService.getSkillsByCategoryForRole(juniorRole.id());
+        assertThatThrownBy(result::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> result.values().iterator().next().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        var matrix = competencyService.buildMatrixViewModel(null);
+        assertThatThrownBy(() -> matrix.rolesByFamily().values().iterator().next().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void shouldGetNextRoles() {
         List<Role> nextRoles = competencyService.getNextRoles(juniorRole.id());
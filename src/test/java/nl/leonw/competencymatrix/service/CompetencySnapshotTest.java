@@ -0,0 +1,94 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleProgression;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+import nl.leonw.competencymatrix.repository.SkillRepository;
+import nl.leonw.competencymatrix.service.CompetencyService.RoleComparison;
+import nl.leonw.competencymatrix.service.CompetencyService.SkillComparison;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompetencySnapshotTest {
+
+    private static final Role JUNIOR = new Role(1, "Junior", "", "Developer", 1);
+    private static final Role MEDIOR = new Role(2, "Medior", "", "Developer", 2);
+    private static final Role TESTER = new Role(3, "Tester", "", "Quality", 1);
+
+    private final CompetencySnapshot snapshot = CompetencySnapshot.build(
+            List.of(JUNIOR, MEDIOR, TESTER),
+            List.of(new CompetencyCategory(10, "Programming", 0)),
+            List.of(new Skill(100, "Java", 10, "B", "R", "G", "U"),
+                    new Skill(101, "Kotlin", 10, "B", "R", "G", "U"),
+                    new Skill(102, "Testing", 10, "B", "R", "G", "U")),
+            List.of(new RoleSkillRequirement(1, 100, ProficiencyLevel.BASIS),
+                    new RoleSkillRequirement(1, 102, ProficiencyLevel.GOED),
+                    new RoleSkillRequirement(2, 100, ProficiencyLevel.GOED),
+                    new RoleSkillRequirement(2, 101, ProficiencyLevel.BASIS),
+                    new RoleSkillRequirement(3, 102, ProficiencyLevel.UITSTEKEND)),
+            List.of(new RoleProgression(1, 2)));
+
+    @Test
+    void materializesComparisonsAlongProgressionsInBothDirections() {
+        RoleComparison forward = snapshot.comparison(1, 2);
+        RoleComparison backward = snapshot.comparison(2, 1);
+
+        assertSame(forward, snapshot.comparison(1, 2));
+        assertSame(backward, snapshot.comparison(2, 1));
+        assertEquals(List.of("Java", "Kotlin", "Testing"), skillNames(forward));
+        assertEquals(1, forward.added());
+        assertEquals(1, forward.upgrades());
+        assertEquals(1, forward.removed());
+        assertEquals(0, forward.downgrades());
+        assertEquals(1, backward.downgrades());
+        assertEquals(1, backward.removed());
+        assertEquals(1, backward.added());
+    }
+
+    @Test
+    void computesComparisonsBetweenUnlinkedRolesOnDemand() {
+        RoleComparison comparison = snapshot.comparison(1, 3);
+
+        assertNotSame(comparison, snapshot.comparison(1, 3));
+        assertEquals(comparison, snapshot.comparison(1, 3));
+        assertEquals(List.of("Java", "Testing"), skillNames(comparison));
+        assertEquals(1, comparison.upgrades());
+        assertEquals(1, comparison.removed());
+    }
+
+    @Test
+    void listsSkillsPerCategoryByNameIgnoringCaseWithDescriptions() {
+        // Database order: by name, upper case first
+        List<Skill> skills = List.of(
+                new Skill(200, "Groovy", 20, "Groovy basis", null, null, null),
+                new Skill(201, "Zig", 20, "Zig basis", null, null, null),
+                new Skill(202, "kotlin", 20, "Kotlin basis", null, null, null));
+        CompetencyCategory languages = new CompetencyCategory(20, "Languages", 0);
+        CompetencySnapshot languagesSnapshot = CompetencySnapshot.build(
+                List.of(JUNIOR), List.of(languages), skills, List.of(), List.of());
+        SkillDescriptionStore descriptions = new SkillDescriptionStore();
+        descriptions.skillRepository = new SkillRepository() {
+            @Override
+            public List<Skill> findAllOrderByName() {
+                return skills;
+            }
+        };
+
+        Map<CompetencyCategory, List<Skill>> byCategory = languagesSnapshot.allSkillsByCategory(null, descriptions);
+
+        assertEquals(List.of("Groovy", "kotlin", "Zig"), byCategory.get(languages).stream().map(Skill::name).toList());
+        assertEquals("Kotlin basis", byCategory.get(languages).get(1).basicDescription());
+        assertTrue(languagesSnapshot.allSkillsByCategory(10, descriptions).isEmpty());
+    }
+
+    private static List<String> skillNames(RoleComparison comparison) {
+        return comparison.skills().stream().map(SkillComparison::skill).map(Skill::name).toList();
+    }
+}
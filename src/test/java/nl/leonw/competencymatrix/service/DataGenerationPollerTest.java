@@ -0,0 +1,38 @@
+package nl.leonw.competencymatrix.service;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import nl.leonw.competencymatrix.repository.DataGenerationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class DataGenerationPollerTest {
+
+    @Inject
+    DataGenerationPoller poller;
+
+    @Inject
+    CompetencyModel competencyModel;
+
+    @Inject
+    DataGenerationRepository dataGenerationRepository;
+
+    @Test
+    void reloadsModelOnlyWhenAnotherInstanceChangedTheData() {
+        competencyModel.reload();
+        assertFalse(poller.poll(), "Model loaded at the current generation must not reload");
+
+        // Another instance committed a sync
+        dataGenerationRepository.increment(Instant.now());
+        CompetencySnapshot before = competencyModel.current().orElseThrow();
+
+        assertTrue(poller.poll());
+        assertNotSame(before, competencyModel.current().orElseThrow());
+        assertEquals(dataGenerationRepository.find().generation(), competencyModel.loadedGeneration());
+        assertFalse(poller.poll());
+    }
+}
@@ -0,0 +1,67 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.model.CompetencyCategory;
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Role;
+import nl.leonw.competencymatrix.model.RoleSkillRequirement;
+import nl.leonw.competencymatrix.model.Skill;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixCsvWriterTest {
+
+    private final CompetencySnapshot snapshot = CompetencySnapshot.build(
+            List.of(new Role(1, "Junior Developer", "", "Developer", 1),
+                    new Role(2, "Medior Developer", "", "Developer", 2),
+                    new Role(3, "Tester, Senior", "", "Alpha", 1)),
+            List.of(new CompetencyCategory(10, "Programming", 0), new CompetencyCategory(11, "Soft \"Skills\"", 1)),
+            List.of(new Skill(100, "Java", 10, null, null, null, null),
+                    new Skill(101, "communicatie", 11, null, null, null, null),
+                    new Skill(102, "Kotlin", 10, null, null, null, null)),
+            List.of(new RoleSkillRequirement(1, 100, ProficiencyLevel.BASIS),
+                    new RoleSkillRequirement(2, 100, ProficiencyLevel.GOED),
+                    new RoleSkillRequirement(3, 101, ProficiencyLevel.UITSTEKEND)),
+            List.of());
+
+    @Test
+    void writesOneRowPerSkillInMatrixOrder() throws IOException {
+        assertEquals("""
+                Category,Skill,"Tester, Senior",Junior Developer,Medior Developer\r
+                "Soft \"\"Skills\"\"",communicatie,Uitstekend,,\r
+                Programming,Java,,Basis,Goed\r
+                Programming,Kotlin,,,\r
+                """, write(null));
+    }
+
+    @Test
+    void filtersByCategory() throws IOException {
+        assertEquals("""
+                Category,Skill,"Tester, Senior",Junior Developer,Medior Developer\r
+                Programming,Java,,Basis,Goed\r
+                Programming,Kotlin,,,\r
+                """, write(10));
+    }
+
+    @Test
+    void neutralizesFormulas() throws IOException {
+        StringWriter out = new StringWriter();
+        MatrixCsvWriter.writeValue(out, "=HYPERLINK(\"x\")");
+
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", out.toString());
+    }
+
+    private String write(Integer categoryId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatrixCsvWriter.write(snapshot, categoryId, out);
+        String csv = out.toString(UTF_8);
+        assertTrue(csv.startsWith("\uFEFF"), "Byte order mark");
+        return csv.substring(1);
+    }
+}
@@ -0,0 +1,81 @@
+package nl.leonw.competencymatrix.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Object> flights = new SingleFlight<>(registry, "test");
+
+    @Test
+    void concurrentCallersForSameKeyShareOneComputation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<Object> leader = executor.submit(() -> flights.execute("matrix", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new Object();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<Object> follower1 = executor.submit(() -> flights.execute("matrix", Object::new));
+            Future<Object> follower2 = executor.submit(() -> flights.execute("matrix", Object::new));
+            while (coalesced() < 2) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            Object result = leader.get(5, TimeUnit.SECONDS);
+            assertSame(result, follower1.get(5, TimeUnit.SECONDS));
+            assertSame(result, follower2.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1.0, registry.get("competency.singleflight.executions").tag("operation", "test").counter().count());
+        assertEquals(2.0, coalesced());
+    }
+
+    @Test
+    void sequentialCallsComputeAgain() {
+        Object first = flights.execute("matrix", Object::new);
+        Object second = flights.execute("matrix", Object::new);
+
+        assertNotSame(first, second);
+        assertEquals(0.0, coalesced());
+    }
+
+    @Test
+    void failureIsPropagatedAndNotRemembered() {
+        assertThrows(IllegalStateException.class, () -> flights.execute("matrix", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertNotNull(flights.execute("matrix", Object::new));
+    }
+
+    private double coalesced() {
+        return registry.get("competency.singleflight.coalesced").tag("operation", "test").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package nl.leonw.competencymatrix.service;
+
+import nl.leonw.competencymatrix.model.ProficiencyLevel;
+import nl.leonw.competencymatrix.model.Skill;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillDescriptionStoreTest {
+
+    private final SkillDescriptionStore.Snapshot snapshot = SkillDescriptionStore.Snapshot.build(List.of(
+            new Skill(7, "Java", 1, "Basis", "Redelijk", "Goed", "Uitstekend"),
+            new Skill(3, "Kubernetes", 1, "Begrijpt pods — ëën cluster", null, "", "Beheert clusters")
+    ));
+
+    @Test
+    void descriptionsAreAddressedBySkillAndLevel() {
+        assertEquals("Goed", decode(snapshot.slice(7, ProficiencyLevel.GOED)));
+        assertEquals("Beheert clusters", decode(snapshot.slice(3, ProficiencyLevel.UITSTEKEND)));
+    }
+
+    @Test
+    void multiByteUtf8IsPreserved() {
+        assertEquals("Begrijpt pods — ëën cluster", decode(snapshot.slice(3, ProficiencyLevel.BASIS)));
+    }
+
+    @Test
+    void nullAndEmptyDescriptionsAreDistinguished() {
+        assertNull(snapshot.slice(3, ProficiencyLevel.REDELIJK));
+        assertEquals("", decode(snapshot.slice(3, ProficiencyLevel.GOED)));
+    }
+
+    @Test
+    void unknownSkillHasNoDescriptions() {
+        assertFalse(snapshot.contains(42));
+        assertNull(snapshot.slice(42, ProficiencyLevel.BASIS));
+    }
+
+    private static String decode(ByteBuffer bytes) {
+        return UTF_8.decode(bytes).toString();
+    }
+}
@@ -0,0 +1,249 @@
+package nl.leonw.competencymatrix.tools;
+
+import nl.leonw.competencymatrix.config.YamlCompetencyData;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a synthetic seed in the split layout the application loads (categories/index.txt,
+ * category files, roles/index.txt, role files, progressions.yaml).
+ * This is a test utility, not part of the main application.
+ *
+ * <p>Scale 1 is about the size of the bundled seed: 10 categories of 10 skills and 2 role families
+ * of 5 seniority levels. Scale N has 10&times;N categories (100&times;N skills) and 2 + N/2 role
+ * families, so scale 50 gives 5,000 skills and 135 roles. The fill ratio is the fraction of all
+ * skills each role has a requirement for. The same random seed always produces the same files.</p>
+ *
+ * <p>Role names follow the bundled seed ("Junior Developer", "Senior Developer", ...), so tests that
+ * look up those roles also run against generated data. Point the application at the output with
+ * {@code -Dcompetency.seed.directory=<dir>}; benchmarks take {@code -p seedDirectory=<dir>}.</p>
+ *
+ * <p>Usage: {@code SyntheticSeedGenerator <output-dir> [--scale=10] [--fill=0.3] [--seed=42]}</p>
+ */
+public class SyntheticSeedGenerator {
+
+    private static final int SKILLS_PER_CATEGORY = 10;
+
+    private static final String[] TOPICS = {
+            "Programming", "Software Design", "DevOps & Infrastructure", "Quality & Testing", "Soft Skills",
+            "Data & Analytics", "Security", "Architecture Frameworks", "AI & Emerging Technologies", "Product"
+    };
+
+    private static final String[] FAMILIES = {
+            "Developer", "Tester", "Architect", "Data Engineer", "Designer", "Product Owner", "Operations Engineer"
+    };
+
+    private static final String[] SENIORITIES = {"Junior", "Medior", "Senior", "Lead", "Principal"};
+
+    private static final String[] LEVEL_KEYS = {"basis", "redelijk", "goed", "uitstekend"};
+
+    private static final String[] WORDS = {
+            "begrijpt", "past", "toe", "ontwerpt", "systemen", "team", "architectuur", "kwaliteit", "leidt",
+            "patronen", "complexe", "onderhoudbare", "code", "reviews", "coacht", "strategie", "zelfstandig",
+            "basisprincipes", "organisatie", "verbetert", "processen", "stakeholders", "domein", "oplossingen"
+    };
+
+    private final int scale;
+    private final double fillRatio;
+    private final Random random;
+
+    public SyntheticSeedGenerator(int scale, double fillRatio, long randomSeed) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("scale must be at least 1: " + scale);
+        }
+        if (fillRatio < 0 || fillRatio > 1) {
+            throw new IllegalArgumentException("fill ratio must be between 0 and 1: " + fillRatio);
+        }
+        this.scale = scale;
+        this.fillRatio = fillRatio;
+        this.random = new Random(randomSeed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticSeedGenerator <output-dir> [--scale=10] [--fill=0.3] [--seed=42]");
+            System.exit(1);
+        }
+        Path outputDir = Path.of(args[0]);
+        int scale = 10;
+        double fill = 0.3;
+        long seed = 42;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            switch (option[0]) {
+                case "--scale" -> scale = Integer.parseInt(option[1]);
+                case "--fill" -> fill = Double.parseDouble(option[1]);
+                case "--seed" -> seed = Long.parseLong(option[1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        YamlCompetencyData data = new SyntheticSeedGenerator(scale, fill, seed).generate();
+        write(data, outputDir);
+
+        int requirements = data.roles().stream().mapToInt(role -> role.requirements().size()).sum();
+        System.out.printf("Generated %d categories, %d skills, %d roles, %d requirements, %d progressions -> %s%n",
+                data.categories().size(), data.categories().size() * SKILLS_PER_CATEGORY, data.roles().size(),
+                requirements, data.progressions().size(), outputDir.toAbsolutePath());
+    }
+
+    /**
+     * Generates the data set in memory.
+     */
+    public YamlCompetencyData generate() {
+        List<YamlCompetencyData.CategoryData> categories = new ArrayList<>();
+        List<YamlCompetencyData.SkillData> allSkills = new ArrayList<>();
+        for (int c = 0; c < 10 * scale; c++) {
+            String categoryName = numbered(TOPICS, c);
+            List<YamlCompetencyData.SkillData> skills = new ArrayList<>();
+            for (int s = 1; s <= SKILLS_PER_CATEGORY; s++) {
+                String skillName = categoryName + " Skill " + s;
+                Map<String, String> levels = new LinkedHashMap<>();
+                for (String level : LEVEL_KEYS) {
+                    levels.put(level, description());
+                }
+                skills.add(new YamlCompetencyData.SkillData(skillName, categoryName, levels));
+            }
+            allSkills.addAll(skills);
+            categories.add(new YamlCompetencyData.CategoryData(categoryName, c, skills));
+        }
+
+        List<YamlCompetencyData.RoleData> roles = new ArrayList<>();
+        List<YamlCompetencyData.ProgressionData> progressions = new ArrayList<>();
+        int families = 2 + scale / 2;
+        for (int f = 0; f < families; f++) {
+            String family = numbered(FAMILIES, f);
+            for (int seniority = 0; seniority < SENIORITIES.length; seniority++) {
+                String roleName = SENIORITIES[seniority] + " " + family;
+                roles.add(new YamlCompetencyData.RoleData(roleName, "Synthetic " + roleName.toLowerCase(), family,
+                        seniority + 1, requirements(allSkills, seniority)));
+                if (seniority > 0) {
+                    progressions.add(new YamlCompetencyData.ProgressionData(
+                            SENIORITIES[seniority - 1] + " " + family, roleName));
+                }
+            }
+        }
+
+        return new YamlCompetencyData(categories, roles, progressions);
+    }
+
+    /**
+     * Writes the split seed layout into a directory (created if needed, existing files overwritten).
+     */
+    public static void write(YamlCompetencyData data, Path outputDir) throws IOException {
+        Path categoriesDir = Files.createDirectories(outputDir.resolve("categories"));
+        Path rolesDir = Files.createDirectories(outputDir.resolve("roles"));
+
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setWidth(200);
+        Yaml yaml = new Yaml(options);
+
+        List<String> categoryFiles = new ArrayList<>();
+        for (YamlCompetencyData.CategoryData category : data.categories()) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("name", category.name());
+            List<Map<String, Object>> skills = new ArrayList<>();
+            for (YamlCompetencyData.SkillData skill : category.skills()) {
+                Map<String, Object> skillDocument = new LinkedHashMap<>();
+                skillDocument.put("name", skill.name());
+                skillDocument.put("levels", skill.levels());
+                skills.add(skillDocument);
+            }
+            document.put("skills", skills);
+            categoryFiles.add(dump(yaml, document, categoriesDir, category.name()));
+        }
+        Files.write(categoriesDir.resolve("index.txt"), categoryFiles);
+
+        List<String> roleFiles = new ArrayList<>();
+        for (YamlCompetencyData.RoleData role : data.roles()) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("name", role.name());
+            document.put("roleFamily", role.roleFamily());
+            document.put("seniorityOrder", role.seniorityOrder());
+            document.put("description", role.description());
+            List<Map<String, Object>> requirements = new ArrayList<>();
+            for (YamlCompetencyData.RequirementData requirement : role.requirements()) {
+                Map<String, Object> requirementDocument = new LinkedHashMap<>();
+                requirementDocument.put("skill", requirement.skillName());
+                requirementDocument.put("category", requirement.categoryName());
+                requirementDocument.put("level", requirement.level());
+                requirements.add(requirementDocument);
+            }
+            document.put("requirements", requirements);
+            roleFiles.add(dump(yaml, document, rolesDir, role.name()));
+        }
+        Files.write(rolesDir.resolve("index.txt"), roleFiles);
+
+        List<Map<String, Object>> progressions = new ArrayList<>();
+        for (YamlCompetencyData.ProgressionData progression : data.progressions()) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("from", progression.fromRoleName());
+            document.put("to", progression.toRoleName());
+            progressions.add(document);
+        }
+        try (Writer writer = Files.newBufferedWriter(outputDir.resolve("progressions.yaml"))) {
+            yaml.dump(progressions, writer);
+        }
+    }
+
+    private List<YamlCompetencyData.RequirementData> requirements(List<YamlCompetencyData.SkillData> skills, int seniority) {
+        List<YamlCompetencyData.RequirementData> requirements = new ArrayList<>();
+        for (YamlCompetencyData.SkillData skill : skills) {
+            if (random.nextDouble() < fillRatio) {
+                // Expected level rises with seniority, with some spread
+                int level = Math.clamp(seniority * (LEVEL_KEYS.length - 1) / (SENIORITIES.length - 1)
+                        + random.nextInt(3) - 1, 0, LEVEL_KEYS.length - 1);
+                requirements.add(new YamlCompetencyData.RequirementData(skill.name(), skill.categoryName(),
+                        LEVEL_KEYS[level]));
+            }
+        }
+        return requirements;
+    }
+
+    private String description() {
+        int length = 60 + random.nextInt(60);
+        StringBuilder text = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        text.setCharAt(0, Character.toUpperCase(text.charAt(0)));
+        while (text.length() < length) {
+            text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    private static String numbered(String[] names, int index) {
+        String name = names[index % names.length];
+        int round = index / names.length;
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private static String dump(Yaml yaml, Map<String, Object> document, Path directory, String name) throws IOException {
+        String filename = toFilename(name);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(filename))) {
+            yaml.dump(document, writer);
+        }
+        return filename;
+    }
+
+    /**
+     * Convert display name to filename (lowercase, hyphens, no special chars)
+     */
+    private static String toFilename(String name) {
+        return name.toLowerCase()
+                .replaceAll("\\s+", "-")
+                .replaceAll("[^a-z0-9-]", "")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "")
+                + ".yaml";
+    }
+}
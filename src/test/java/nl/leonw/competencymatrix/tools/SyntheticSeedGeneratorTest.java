@@ -0,0 +1,58 @@
+package nl.leonw.competencymatrix.tools;
+
+import nl.leonw.competencymatrix.config.SeedLoader;
+import nl.leonw.competencymatrix.config.SeedValidator;
+import nl.leonw.competencymatrix.config.YamlCompetencyData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticSeedGeneratorTest {
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void writesSeedThatLoadsBackUnchanged() throws IOException {
+        YamlCompetencyData generated = new SyntheticSeedGenerator(2, 0.3, 42).generate();
+
+        SyntheticSeedGenerator.write(generated, outputDir);
+        YamlCompetencyData loaded = new SeedLoader(outputDir).load();
+
+        assertTrue(Files.exists(outputDir.resolve("categories/index.txt")));
+        assertTrue(Files.exists(outputDir.resolve("roles/index.txt")));
+        assertTrue(Files.exists(outputDir.resolve("progressions.yaml")));
+        // Split category files are parsed one by one, so display order is not round-tripped
+        assertEquals(generated.categories().stream().map(YamlCompetencyData.CategoryData::skills).toList(),
+                loaded.categories().stream().map(YamlCompetencyData.CategoryData::skills).toList());
+        assertEquals(generated.roles(), loaded.roles());
+        assertEquals(generated.progressions(), loaded.progressions());
+        SeedValidator.validateStructure(loaded);
+        SeedValidator.validateReferences(loaded);
+    }
+
+    @Test
+    void scalesWithScaleAndFillRatio() {
+        YamlCompetencyData data = new SyntheticSeedGenerator(4, 0.5, 42).generate();
+
+        assertEquals(40, data.categories().size());
+        assertEquals(400, data.categories().stream().mapToInt(category -> category.skills().size()).sum());
+        assertEquals(20, data.roles().size());
+        assertEquals(16, data.progressions().size());
+        double requirementsPerRole = data.roles().stream().mapToInt(role -> role.requirements().size()).average().orElseThrow();
+        assertEquals(200, requirementsPerRole, 30);
+        assertTrue(data.roles().stream().anyMatch(role -> role.name().equals("Junior Developer")));
+        assertTrue(data.roles().stream().anyMatch(role -> role.name().equals("Senior Developer")));
+    }
+
+    @Test
+    void sameRandomSeedGivesSameData() {
+        assertEquals(new SyntheticSeedGenerator(3, 0.2, 7).generate(), new SyntheticSeedGenerator(3, 0.2, 7).generate());
+        assertNotEquals(new SyntheticSeedGenerator(3, 0.2, 7).generate(), new SyntheticSeedGenerator(3, 0.2, 8).generate());
+    }
+}
@@ -59,4 +59,20 @@ class HealthEndpointTest {
                 .statusCode(200)
                 .body("checks.find { it.name == 'Database connections health check' }.status", is("UP"));
     }
+
+    @Test
+    void shouldReportCompetencyDataReadyAfterStartupSync() {
+        given()
+            .when().get(readinessUrl)
+            .then()
+                .statusCode(200)
+                .body("checks.find { it.name == 'Competency data' }.status", is("UP"))
+                .body("checks.find { it.name == 'Competency data' }.data.state", is("READY"));
+
+        given()
+            .when().get(livenessUrl)
+            .then()
+                .statusCode(200)
+                .body("checks.find { it.name == 'Competency data' }", nullValue());
+    }
 }
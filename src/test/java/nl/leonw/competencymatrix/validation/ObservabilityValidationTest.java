@@ -110,6 +110,28 @@ class ObservabilityValidationTest {
         assert metricCount > 0 : "Should expose at least some metrics";
     }
 
+    /**
+     * Verify repository, sync, template and dataset metrics are recorded
+     */
+    @Test
+    void shouldExposeCompetencyMetrics() {
+        given().when().get("/matrix").then().statusCode(200);
+
+        given()
+            .when().get(metricsUrl)
+            .then()
+                .statusCode(200)
+                .body(containsString("competency_repository_seconds_count{"))
+                .body(containsString("method=\"findAllOrderByFamilyAndSeniority\""))
+                .body(containsString("competency_sync_phase_seconds_count{phase=\"parse\"}"))
+                .body(containsString("competency_sync_rows_total{phase=\"categories\"}"))
+                .body(containsString("competency_template_render_seconds_count{template=\"matrixOverview.html\"}"))
+                .body(containsString("competency_dataset_entities{entity=\"skills\"}"))
+                .body(containsString("competency_matrix_fill_ratio"))
+                .body(containsString("competency_startup_listening_seconds"))
+                .body(containsString("competency_startup_ready_seconds"));
+    }
+
     /**
      * T071: Verify readiness probe for container orchestration
      */